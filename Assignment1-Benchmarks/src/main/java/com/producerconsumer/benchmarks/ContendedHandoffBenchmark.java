@@ -0,0 +1,97 @@
+package com.producerconsumer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * N:1, 1:N and N:M handoff for the multi-producer/multi-consumer queues.
+ * Group sizes default to 4; override them from the command line, e.g.
+ * {@code -tg 8,8} for 8 producers and 8 consumers.
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContendedHandoffBenchmark {
+
+    private static final Integer ITEM = 42;
+    private static final long TIMEOUT_MS = 10;
+
+    @Param({"CIRCULAR", "ELASTIC", "CONDITION", "SEGMENTED", "MPMC_RING", "SHARDED",
+            "ARRAY_BLOCKING_QUEUE", "LINKED_BLOCKING_QUEUE", "LINKED_TRANSFER_QUEUE"})
+    public QueueKind queue;
+
+    @Param({"16", "256", "4096"})
+    public int capacity;
+
+    private HandoffQueue handoff;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        handoff = queue.create(capacity);
+    }
+
+    // N producers : 1 consumer
+
+    @Benchmark
+    @Group("manyToOne")
+    @GroupThreads(4)
+    public boolean manyToOneProduce() throws InterruptedException {
+        return handoff.offer(ITEM, TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("manyToOne")
+    @GroupThreads(1)
+    public Integer manyToOneConsume() throws InterruptedException {
+        return handoff.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // 1 producer : N consumers
+
+    @Benchmark
+    @Group("oneToMany")
+    @GroupThreads(1)
+    public boolean oneToManyProduce() throws InterruptedException {
+        return handoff.offer(ITEM, TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("oneToMany")
+    @GroupThreads(4)
+    public Integer oneToManyConsume() throws InterruptedException {
+        return handoff.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // N producers : M consumers
+
+    @Benchmark
+    @Group("manyToMany")
+    @GroupThreads(4)
+    public boolean manyToManyProduce() throws InterruptedException {
+        return handoff.offer(ITEM, TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("manyToMany")
+    @GroupThreads(4)
+    public Integer manyToManyConsume() throws InterruptedException {
+        return handoff.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,73 @@
+package com.producerconsumer.benchmarks;
+
+import com.producerconsumer.concurrency.AbstractBuffer;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two operations every benchmark needs, over either one of our buffers or a JDK queue.
+ * Timed variants are used so that a thread left waiting when an iteration ends always returns.
+ */
+interface HandoffQueue {
+
+    boolean offer(Integer item, long timeout, TimeUnit unit) throws InterruptedException;
+
+    Integer poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    static HandoffQueue of(AbstractBuffer<Integer> buffer) {
+        return new HandoffQueue() {
+            @Override
+            public boolean offer(Integer item, long timeout, TimeUnit unit) throws InterruptedException {
+                return buffer.offer(item, timeout, unit);
+            }
+
+            @Override
+            public Integer poll(long timeout, TimeUnit unit) throws InterruptedException {
+                return buffer.poll(timeout, unit);
+            }
+        };
+    }
+
+    static HandoffQueue of(BlockingQueue<Integer> queue) {
+        return new HandoffQueue() {
+            @Override
+            public boolean offer(Integer item, long timeout, TimeUnit unit) throws InterruptedException {
+                return queue.offer(item, timeout, unit);
+            }
+
+            @Override
+            public Integer poll(long timeout, TimeUnit unit) throws InterruptedException {
+                return queue.poll(timeout, unit);
+            }
+        };
+    }
+
+    /**
+     * Caps an unbounded queue at {@code capacity} items with a semaphore, so it is compared
+     * against the bounded buffers on equal terms instead of growing without limit.
+     */
+    static HandoffQueue bounded(BlockingQueue<Integer> queue, int capacity) {
+        Semaphore slots = new Semaphore(capacity);
+        return new HandoffQueue() {
+            @Override
+            public boolean offer(Integer item, long timeout, TimeUnit unit) throws InterruptedException {
+                if (!slots.tryAcquire(timeout, unit)) {
+                    return false;
+                }
+                queue.put(item);
+                return true;
+            }
+
+            @Override
+            public Integer poll(long timeout, TimeUnit unit) throws InterruptedException {
+                Integer item = queue.poll(timeout, unit);
+                if (item != null) {
+                    slots.release();
+                }
+                return item;
+            }
+        };
+    }
+}
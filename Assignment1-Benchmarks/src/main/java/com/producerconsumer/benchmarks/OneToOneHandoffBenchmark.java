@@ -0,0 +1,64 @@
+package com.producerconsumer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1 producer : 1 consumer handoff. Throughput is reported per side (ops/µs);
+ * sample-time mode gives the per-operation latency distribution.
+ * This is the only ratio where {@code SPSC_RING} is valid.
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OneToOneHandoffBenchmark {
+
+    private static final Integer ITEM = 42;
+    private static final long TIMEOUT_MS = 10;
+
+    @Param({"CIRCULAR", "ELASTIC", "CONDITION", "SEGMENTED", "MPMC_RING", "SHARDED", "SPSC_RING",
+            "ARRAY_BLOCKING_QUEUE", "LINKED_BLOCKING_QUEUE", "LINKED_TRANSFER_QUEUE"})
+    public QueueKind queue;
+
+    @Param({"16", "256", "4096"})
+    public int capacity;
+
+    private HandoffQueue handoff;
+
+    // A fresh queue per iteration, so leftovers from the previous one don't skew the next
+    @Setup(Level.Iteration)
+    public void setUp() {
+        handoff = queue.create(capacity);
+    }
+
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public boolean produce() throws InterruptedException {
+        return handoff.offer(ITEM, TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public Integer consume() throws InterruptedException {
+        return handoff.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+}
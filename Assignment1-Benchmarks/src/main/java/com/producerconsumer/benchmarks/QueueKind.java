@@ -0,0 +1,87 @@
+package com.producerconsumer.benchmarks;
+
+import com.producerconsumer.concurrency.CircularBuffer;
+import com.producerconsumer.concurrency.ConditionBuffer;
+import com.producerconsumer.concurrency.ElasticBuffer;
+import com.producerconsumer.concurrency.MpmcRingBuffer;
+import com.producerconsumer.concurrency.SegmentedElasticBuffer;
+import com.producerconsumer.concurrency.ShardedBuffer;
+import com.producerconsumer.concurrency.SpscRingBuffer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+
+/**
+ * Every queue under test. New {@code AbstractBuffer} implementations get benchmarked
+ * by adding a constant here and listing it in the {@code @Param} of the benchmarks.
+ */
+public enum QueueKind {
+
+    CIRCULAR {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new CircularBuffer<>(capacity));
+        }
+    },
+    // Starts at a quarter of the capacity so growth is part of the measurement
+    ELASTIC {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new ElasticBuffer<>(Math.max(1, capacity / 4), capacity));
+        }
+    },
+    CONDITION {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new ConditionBuffer<>(capacity));
+        }
+    },
+    SEGMENTED {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new SegmentedElasticBuffer<>(Math.min(capacity, 64), capacity));
+        }
+    },
+    MPMC_RING {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new MpmcRingBuffer<>(capacity));
+        }
+    },
+    // One shard per core, splitting the capacity between them
+    SHARDED {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new ShardedBuffer<>(capacity));
+        }
+    },
+    // Only valid with one producer and one consumer thread
+    SPSC_RING {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new SpscRingBuffer<>(capacity));
+        }
+    },
+    ARRAY_BLOCKING_QUEUE {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new ArrayBlockingQueue<>(capacity));
+        }
+    },
+    LINKED_BLOCKING_QUEUE {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.of(new LinkedBlockingQueue<>(capacity));
+        }
+    },
+    // Unbounded by design; capped with a semaphore for a like-for-like comparison
+    LINKED_TRANSFER_QUEUE {
+        @Override
+        HandoffQueue create(int capacity) {
+            return HandoffQueue.bounded(new LinkedTransferQueue<>(), capacity);
+        }
+    };
+
+    abstract HandoffQueue create(int capacity);
+}
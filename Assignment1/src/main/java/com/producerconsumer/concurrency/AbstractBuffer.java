@@ -1,6 +1,20 @@
 package com.producerconsumer.concurrency;
 
-public abstract class AbstractBuffer<T> {
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for all bounded buffers.
+ * <p>
+ * A buffer can be {@linkplain #close() closed} to mark the end of the stream. After that,
+ * {@code produce}/{@code offer} throw {@link IllegalStateException}. {@code consume} keeps
+ * returning the items still queued and then returns {@code null}, and {@code drainTo}
+ * returns 0. Every waiting thread is woken at once. Consumers can therefore run without
+ * knowing in advance how many items will arrive.
+ */
+public abstract class AbstractBuffer<T> implements AutoCloseable {
 
     // Standard default size if none provided
     protected static final int DEFAULT_BUFFER_SIZE = 10;
@@ -11,6 +25,12 @@ public abstract class AbstractBuffer<T> {
     // Current number of items in the buffer
     protected volatile int currentCount;
 
+    // Receives wait/resize events from the buffer and progress events from its workers
+    protected volatile BufferEventListener eventListener = BufferEventListener.NO_OP;
+
+    // Set once by close(); never cleared
+    protected volatile boolean closed;
+
     public AbstractBuffer(int bufferLimit) {
         this.bufferLimit = bufferLimit;
         this.currentCount = 0;
@@ -18,13 +38,129 @@ public abstract class AbstractBuffer<T> {
 
 
      // @throws InterruptedException if the thread is interrupted while waiting.
+     // @throws IllegalStateException if the buffer is closed, including while waiting for room.
 
     public abstract void produce(T item) throws InterruptedException;
 
+     // @return the head item, or null once the buffer is closed and drained (end of stream).
      // @throws InterruptedException if the thread is interrupted while waiting.
 
     public abstract T consume() throws InterruptedException;
 
+    /**
+     * Inserts the item only if there is room right now.
+     *
+     * @return true if the item was added, false if the buffer was full.
+     * @throws IllegalStateException if the buffer is closed.
+     */
+    public abstract boolean offer(T item);
+
+    /**
+     * Inserts the item, waiting up to the given time for room to become available.
+     *
+     * @return true if the item was added, false if the timeout elapsed first.
+     * @throws IllegalStateException if the buffer is closed, including while waiting for room.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public abstract boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Removes the head item only if one is available right now.
+     *
+     * @return the item, or null if the buffer was empty.
+     */
+    public abstract T poll();
+
+    /**
+     * Removes the head item, waiting up to the given time for one to arrive.
+     *
+     * @return the item, or null if the timeout elapsed first or the buffer is closed and drained.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public abstract T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Adds every item in order, blocking whenever the buffer is full.
+     * The default moves one item at a time; implementations override this
+     * to insert as many items as fit per lock acquisition and signal once.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public void produceAll(Collection<? extends T> items) throws InterruptedException {
+        requireNoNullItems(items);
+        for (T item : items) {
+            produce(item);
+        }
+    }
+
+    /**
+     * Blocks until at least one item is available, then moves up to
+     * {@code maxItems} items into {@code target} in FIFO order.
+     * <p>
+     * The default takes the first item with {@link #consume()} and the rest with
+     * {@link #poll()}; implementations override it to drain under a single lock.
+     *
+     * @return the number of items moved: at least one, or 0 once the buffer is closed and drained.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public int drainTo(Collection<? super T> target, int maxItems) throws InterruptedException {
+        validateDrain(target, maxItems);
+        T first = consume();
+        if (first == null) {
+            return 0;
+        }
+        target.add(first);
+        int drained = 1;
+        T item;
+        while (drained < maxItems && (item = poll()) != null) {
+            target.add(item);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Blocks until at least one item is available and returns up to {@code maxItems} of them;
+     * the list is empty once the buffer is closed and drained.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public List<T> consume(int maxItems) throws InterruptedException {
+        List<T> batch = new ArrayList<>(Math.min(maxItems, getBufferLimit()));
+        drainTo(batch, maxItems);
+        return batch;
+    }
+
+    /**
+     * Ends the stream: later inserts fail, consumers drain what is left and then see end of
+     * stream, and every blocked producer and consumer wakes up. Calling it again has no effect.
+     * On the lock-free buffers an insert already past its check may still land after consumers
+     * have seen end of stream, so close once the producers are done.
+     * <p>
+     * {@link MappedRingBuffer} is the exception: there this only releases the local handle, and
+     * the producing process must call {@link MappedRingBuffer#closeStream()} to end the stream for
+     * the other process.
+     * <p>
+     * Subclasses that block must override this to wake their waiters after calling {@code super.close()}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Whether a producer may call {@link #poll()} to evict the oldest queued item, as
+     * {@link OverflowPolicy#DROP_OLDEST} does. That needs items to leave in insertion order and
+     * any thread to be allowed to consume.
+     */
+    public boolean canEvictOldest() {
+        return true;
+    }
+
     // Status checks
     public abstract boolean isFull();
     public abstract boolean isEmpty();
@@ -37,4 +173,40 @@ public abstract class AbstractBuffer<T> {
     public int getBufferLimit() {
         return bufferLimit;
     }
-}
\ No newline at end of file
+
+    public BufferEventListener getEventListener() {
+        return eventListener;
+    }
+
+    public void setEventListener(BufferEventListener eventListener) {
+        this.eventListener = eventListener != null ? eventListener : BufferEventListener.NO_OP;
+    }
+
+    // Insert paths call this before adding and again after every wait for room
+    protected final void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Buffer is closed.");
+        }
+    }
+
+    // Batch argument checks shared by all implementations
+    protected static void requireNoNullItems(Collection<?> items) {
+        if (items == null) {
+            throw new IllegalArgumentException("Item collection cannot be null.");
+        }
+        for (Object item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException("Cannot produce null items.");
+            }
+        }
+    }
+
+    protected static void validateDrain(Collection<?> target, int maxItems) {
+        if (target == null) {
+            throw new IllegalArgumentException("Drain target cannot be null.");
+        }
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("maxItems must be positive.");
+        }
+    }
+}
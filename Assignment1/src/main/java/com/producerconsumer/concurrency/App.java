@@ -1,13 +1,29 @@
 package com.producerconsumer.concurrency;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class App {
     public static void main(String[] args) {
         System.out.println("=== Producer-Consumer Application Started ===");
+
+        if (args.length > 0 && "virtual".equalsIgnoreCase(args[0])) {
+            testVirtualThreadSwarm();
+            System.out.println("=== Demonstration Complete ===");
+            return;
+        }
         System.out.println(">> Mode: Visual Demonstration");
 
         // 1. Create a fixed-size buffer (Capacity 5)
         AbstractBuffer<String> demoBuffer = new CircularBuffer<>(5);
 
+        // Console output is written by a background thread, off the producer/consumer path
+        AsyncLoggingListener logger = new AsyncLoggingListener();
+        demoBuffer.setEventListener(logger);
+
         // 2. Create Workers
         // Producer: Generates 10 items, fast (50ms delay)
         // Consumer: Consumes 10 items, slow (100ms delay) to force the producer to wait
@@ -22,6 +38,7 @@ public class App {
         try {
             producer.join();
             consumer.join();
+            logger.close();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             System.err.println("Main thread interrupted.");
@@ -34,6 +51,7 @@ public class App {
         System.out.println(">>> Scenario 1: Fixed Circular Buffer (Size 3) <<<");
         // Small size to force blocking quickly
         AbstractBuffer<String> buffer = new CircularBuffer<>(3);
+        buffer.setEventListener(new ConsoleEventListener());
 
         // Producer creates 5 items, Consumer takes 5 items
         Thread p1 = new Thread(new TaskProducer(buffer, 5, 100, "Prod-Fixed"));
@@ -50,6 +68,7 @@ public class App {
         System.out.println(">>> Scenario 2: Dynamic Elastic Buffer (Initial Size 2) <<<");
         // Start very small to force resize
         AbstractBuffer<String> buffer = new ElasticBuffer<>(2);
+        buffer.setEventListener(new ConsoleEventListener());
 
         // Producer creates 10 items very fast (50ms)
         // Consumer is slow, causing accumulation and forcing resize
@@ -62,6 +81,59 @@ public class App {
         joinThreads(p1, c1);
     }
 
+    private static void testVirtualThreadSwarm() {
+        System.out.println(">>> Scenario 3: 100k I/O-bound Producers on Virtual Threads <<<");
+        if (!SimulationRunner.isVirtualThreadSupported()) {
+            System.out.println(">> Virtual threads require Java 21+. Skipping scenario.");
+            return;
+        }
+
+        int producerCount = 100_000;
+        int consumerCount = 8;
+        // Lock-based buffer: blocked virtual threads unmount instead of pinning their carrier
+        AbstractBuffer<String> buffer = new ConditionBuffer<>(1024);
+        AtomicInteger consumed = new AtomicInteger();
+
+        List<Runnable> workers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            String producerId = "VP-" + p;
+            workers.add(() -> {
+                try {
+                    // Simulated I/O latency before the item is ready
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(10, 50));
+                    buffer.produce(producerId + "-Data");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int c = 0; c < consumerCount; c++) {
+            int quota = producerCount / consumerCount + (c < producerCount % consumerCount ? 1 : 0);
+            workers.add(() -> {
+                try {
+                    int taken = 0;
+                    while (taken < quota) {
+                        taken += buffer.consume(Math.min(64, quota - taken)).size();
+                    }
+                    consumed.addAndGet(taken);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        try {
+            boolean finished = SimulationRunner.runAll(SimulationRunner.ThreadMode.VIRTUAL, workers, 2, TimeUnit.MINUTES);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.printf(">> %s: %,d producers, %,d items consumed in %d ms%n",
+                    finished ? "Finished" : "Timed out", producerCount, consumed.get(), elapsedMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Main thread interrupted.");
+        }
+    }
+
     private static void joinThreads(Thread... threads) {
         try {
             for (Thread t : threads) {
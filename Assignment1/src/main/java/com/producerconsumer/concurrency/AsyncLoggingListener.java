@@ -0,0 +1,203 @@
+package com.producerconsumer.concurrency;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Event listener that keeps console I/O off producer and consumer threads.
+ * <p>
+ * Callers only capture the event into a lazily formatted message and {@code offer} it to a
+ * lock-free {@link MpmcRingBuffer}; they never block or touch the stream lock. Items are turned
+ * into text ({@code String.valueOf}) at event time, so a mutable item is logged as it was then;
+ * the rest of the message is formatted later. A single daemon thread drains the ring in batches,
+ * formats the messages (same text as {@link ConsoleEventListener}) and writes each batch with one
+ * print and one flush. If the ring is full the message is dropped and counted rather than
+ * stalling the caller.
+ * <p>
+ * An idle writer parks until a caller finds it parked and wakes it, so it costs nothing
+ * between bursts.
+ * <p>
+ * {@link #close()} waits for callers already past the closed check to finish their offer before
+ * the final drain, so every message is either written or counted as dropped.
+ */
+public class AsyncLoggingListener implements BufferEventListener, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int WRITE_BATCH = 256;
+
+    private final MpmcRingBuffer<Supplier<String>> pending;
+    private final PrintStream out;
+    private final Thread writer;
+    private final LongAdder droppedMessages = new LongAdder();
+    // Callers between their closed check and the end of their offer
+    private final AtomicInteger offering = new AtomicInteger();
+    private volatile boolean closed;
+    // Set by close() once no offer is in flight; only then may the writer do its final drain
+    private volatile boolean stopped;
+    // Set by the writer before it rechecks the ring and parks; callers that see it wake the writer
+    private volatile boolean writerParked;
+
+    public AsyncLoggingListener(PrintStream out, int capacity) {
+        this.out = out;
+        this.pending = new MpmcRingBuffer<>(capacity);
+        this.writer = new Thread(this::writeLoop, "async-buffer-logger");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public AsyncLoggingListener() {
+        this(System.out, DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public void onProducerWaiting() {
+        log(ConsoleEventListener::producerWaiting);
+    }
+
+    @Override
+    public void onConsumerWaiting() {
+        log(ConsoleEventListener::consumerWaiting);
+    }
+
+    @Override
+    public void onResize(int oldLimit, int newLimit) {
+        log(() -> ConsoleEventListener.resized(oldLimit, newLimit));
+    }
+
+    @Override
+    public void onProducerStarted(String producerId) {
+        log(() -> ConsoleEventListener.producerStarted(producerId));
+    }
+
+    @Override
+    public void onProducerFinished(String producerId) {
+        log(() -> ConsoleEventListener.producerFinished(producerId));
+    }
+
+    @Override
+    public void onConsumerStarted(String consumerId) {
+        log(() -> ConsoleEventListener.consumerStarted(consumerId));
+    }
+
+    @Override
+    public void onConsumerFinished(String consumerId) {
+        log(() -> ConsoleEventListener.consumerFinished(consumerId));
+    }
+
+    @Override
+    public void onWorkerInterrupted(String workerId) {
+        log(() -> ConsoleEventListener.workerInterrupted(workerId));
+    }
+
+    @Override
+    public void onItemProduced(String producerId, Object item) {
+        String text = String.valueOf(item);
+        log(() -> ConsoleEventListener.itemProduced(producerId, text));
+    }
+
+    @Override
+    public void onItemConsumed(String consumerId, Object item) {
+        String text = String.valueOf(item);
+        log(() -> ConsoleEventListener.itemConsumed(consumerId, text));
+    }
+
+    @Override
+    public void onItemRejected(String producerId, Object item, OverflowPolicy policy) {
+        String text = String.valueOf(item);
+        log(() -> ConsoleEventListener.itemRejected(producerId, text, policy));
+    }
+
+    @Override
+    public void onItemProcessedInline(String producerId, Object item) {
+        String text = String.valueOf(item);
+        log(() -> ConsoleEventListener.itemProcessedInline(producerId, text));
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * Stops accepting messages, writes everything already queued and stops the writer thread.
+     * If the calling thread is interrupted while waiting for the writer, it stops waiting and
+     * keeps its interrupt status; the writer still finishes the final batch on its own.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // Pairs with log(): it announces itself before reading closed, we read offering after writing it
+        while (offering.get() > 0) {
+            Thread.onSpinWait();
+        }
+        stopped = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void log(Supplier<String> message) {
+        offering.incrementAndGet();
+        try {
+            if (closed || !pending.offer(message)) {
+                droppedMessages.increment();
+            } else if (writerParked) {
+                LockSupport.unpark(writer);
+            }
+        } finally {
+            offering.decrementAndGet();
+        }
+    }
+
+    private void writeLoop() {
+        List<Supplier<String>> batch = new ArrayList<>(WRITE_BATCH);
+        while (!stopped) {
+            Supplier<String> message;
+            while (batch.size() < WRITE_BATCH && (message = pending.poll()) != null) {
+                batch.add(message);
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                continue;
+            }
+            // Announce the park before the last look, so an offer landing in between still wakes us
+            writerParked = true;
+            if (pending.isEmpty() && !stopped) {
+                LockSupport.park(this);
+            }
+            writerParked = false;
+        }
+
+        // Flush whatever was queued before close()
+        Supplier<String> message;
+        while ((message = pending.poll()) != null) {
+            batch.add(message);
+        }
+        write(batch);
+    }
+
+    // For tests: WAITING while idle, since the writer parks without a timeout
+    Thread.State getWriterState() {
+        return writer.getState();
+    }
+
+    private void write(List<Supplier<String>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder(batch.size() * 48);
+        for (Supplier<String> message : batch) {
+            text.append(message.get()).append(System.lineSeparator());
+        }
+        out.print(text);
+        out.flush();
+        batch.clear();
+    }
+}
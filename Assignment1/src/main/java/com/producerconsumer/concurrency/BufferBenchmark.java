@@ -0,0 +1,88 @@
+package com.producerconsumer.concurrency;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Quick handoff-throughput comparison between buffer implementations.
+ * Not a substitute for a proper harness, but enough to compare the
+ * monitor-based {@link CircularBuffer} against {@link ConditionBuffer}.
+ */
+public class BufferBenchmark {
+
+    private static final int CAPACITY = 64;
+    private static final int ITEMS_PER_PRODUCER = 200_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, Supplier<AbstractBuffer<Integer>>> buffers = new LinkedHashMap<>();
+        buffers.put("CircularBuffer (monitor)", () -> new CircularBuffer<>(CAPACITY));
+        buffers.put("ConditionBuffer", () -> new ConditionBuffer<>(CAPACITY));
+        buffers.put("ConditionBuffer (fair)", () -> new ConditionBuffer<>(CAPACITY, true));
+
+        int[][] threadCounts = {{1, 1}, {4, 4}, {16, 16}};
+
+        System.out.println("=== Buffer Handoff Benchmark (capacity " + CAPACITY + ") ===");
+        for (int[] counts : threadCounts) {
+            System.out.printf("%n>> %d producer(s) : %d consumer(s)%n", counts[0], counts[1]);
+            for (Map.Entry<String, Supplier<AbstractBuffer<Integer>>> entry : buffers.entrySet()) {
+                run(entry.getValue(), counts[0], counts[1]); // Warm-up
+                long best = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    best = Math.min(best, run(entry.getValue(), counts[0], counts[1]));
+                }
+                long items = (long) counts[0] * ITEMS_PER_PRODUCER;
+                System.out.printf("   %-26s %,12.0f items/sec%n", entry.getKey(), items * 1e9 / best);
+            }
+        }
+    }
+
+    // Returns wall-clock nanos for moving every item from the producers to the consumers
+    private static long run(Supplier<AbstractBuffer<Integer>> factory, int producers, int consumers)
+            throws InterruptedException {
+        AbstractBuffer<Integer> buffer = factory.get();
+        long totalItems = (long) producers * ITEMS_PER_PRODUCER;
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            threads.add(new Thread(() -> {
+                try {
+                    startGate.await();
+                    for (int i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                        buffer.produce(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            // Spread the items so every consumer has an exact quota
+            long quota = totalItems / consumers + (c < totalItems % consumers ? 1 : 0);
+            threads.add(new Thread(() -> {
+                try {
+                    startGate.await();
+                    for (long i = 0; i < quota; i++) {
+                        buffer.consume();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        // Buffers report waits through the no-op listener by default, so nothing touches the console here
+        threads.forEach(Thread::start);
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,60 @@
+package com.producerconsumer.concurrency;
+
+/**
+ * Hook for observing buffers and the workers that use them, in place of direct console output.
+ * <p>
+ * Callbacks run on the producer/consumer thread, sometimes while the buffer's lock is held,
+ * so implementations must return quickly and never block. {@link #NO_OP} is the default;
+ * {@link ConsoleEventListener} prints synchronously and {@link AsyncLoggingListener} hands
+ * messages to a background thread.
+ */
+public interface BufferEventListener {
+
+    BufferEventListener NO_OP = new BufferEventListener() {
+    };
+
+    // Buffer events
+
+    default void onProducerWaiting() {
+    }
+
+    default void onConsumerWaiting() {
+    }
+
+    default void onResize(int oldLimit, int newLimit) {
+    }
+
+    // Worker events
+
+    default void onProducerStarted(String producerId) {
+    }
+
+    default void onProducerFinished(String producerId) {
+    }
+
+    default void onConsumerStarted(String consumerId) {
+    }
+
+    default void onConsumerFinished(String consumerId) {
+    }
+
+    default void onWorkerInterrupted(String workerId) {
+    }
+
+    default void onItemProduced(String producerId, Object item) {
+    }
+
+    default void onItemConsumed(String consumerId, Object item) {
+    }
+
+    /**
+     * An item was lost because the buffer was full: discarded ({@code DROP_NEWEST}) or evicted
+     * to make room ({@code DROP_OLDEST}).
+     */
+    default void onItemRejected(String producerId, Object item, OverflowPolicy policy) {
+    }
+
+    // The buffer was full, so the producer handled the item itself (CALLER_RUNS)
+    default void onItemProcessedInline(String producerId, Object item) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.producerconsumer.concurrency;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and histograms describing one buffer's traffic.
+ * <p>
+ * Everything is recorded through {@link LongAdder}s and a lock-free {@link LatencyHistogram},
+ * so threads recording at the same time don't contend with each other or with the buffer.
+ * Recorders check {@link #isEnabled()} first; a disabled instance costs one volatile read per call.
+ * Use {@link #snapshot()} for a consistent-enough copy, or {@link #registerMBean(String)} for JMX.
+ */
+public class BufferMetrics implements BufferMetricsMXBean {
+
+    private volatile boolean enabled;
+
+    private final LongAdder itemsProduced = new LongAdder();
+    private final LongAdder itemsConsumed = new LongAdder();
+    private final LongAdder producerWaitCount = new LongAdder();
+    private final LongAdder producerWaitNanos = new LongAdder();
+    private final LongAdder consumerWaitCount = new LongAdder();
+    private final LongAdder consumerWaitNanos = new LongAdder();
+    private final LongAdder resizeCount = new LongAdder();
+    private final LongAdder resizeNanos = new LongAdder();
+
+    private final LatencyHistogram occupancy = new LatencyHistogram();
+    private final LatencyHistogram produceLatency = new LatencyHistogram();
+    private final LatencyHistogram consumeLatency = new LatencyHistogram();
+
+    public BufferMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public BufferMetrics() {
+        this(true);
+    }
+
+    // Recording, called by InstrumentedBuffer and resizable buffers
+
+    void recordProduced(int items, long latencyNanos, int occupancyAfter) {
+        itemsProduced.add(items);
+        produceLatency.record(latencyNanos);
+        occupancy.record(occupancyAfter);
+    }
+
+    void recordConsumed(int items, long latencyNanos, int occupancyAfter) {
+        itemsConsumed.add(items);
+        consumeLatency.record(latencyNanos);
+        occupancy.record(occupancyAfter);
+    }
+
+    void recordProducerWait(long nanos) {
+        producerWaitCount.increment();
+        producerWaitNanos.add(nanos);
+    }
+
+    void recordConsumerWait(long nanos) {
+        consumerWaitCount.increment();
+        consumerWaitNanos.add(nanos);
+    }
+
+    void recordResize(long nanos) {
+        resizeCount.increment();
+        resizeNanos.add(nanos);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Registers this instance with the platform MBean server under
+     * {@code com.producerconsumer.concurrency:type=BufferMetrics,name=<name>}.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = objectName(name);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(objectName)) {
+            server.unregisterMBean(objectName);
+        }
+        server.registerMBean(this, objectName);
+        return objectName;
+    }
+
+    public void unregisterMBean(String name) throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = objectName(name);
+        if (server.isRegistered(objectName)) {
+            server.unregisterMBean(objectName);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName("com.producerconsumer.concurrency:type=BufferMetrics,name=" + ObjectName.quote(name));
+    }
+
+    // MXBean view
+
+    @Override public boolean isEnabled() { return enabled; }
+    @Override public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    @Override public long getItemsProduced() { return itemsProduced.sum(); }
+    @Override public long getItemsConsumed() { return itemsConsumed.sum(); }
+    @Override public long getProducerWaitCount() { return producerWaitCount.sum(); }
+    @Override public long getProducerWaitNanos() { return producerWaitNanos.sum(); }
+    @Override public long getConsumerWaitCount() { return consumerWaitCount.sum(); }
+    @Override public long getConsumerWaitNanos() { return consumerWaitNanos.sum(); }
+    @Override public long getResizeCount() { return resizeCount.sum(); }
+    @Override public long getResizeNanos() { return resizeNanos.sum(); }
+
+    @Override public long getOccupancyP50() { return occupancy.snapshot().getValueAtPercentile(50); }
+    @Override public long getOccupancyP99() { return occupancy.snapshot().getValueAtPercentile(99); }
+    @Override public long getOccupancyMax() { return occupancy.snapshot().getMax(); }
+    @Override public long getProduceLatencyP99Nanos() { return produceLatency.snapshot().getValueAtPercentile(99); }
+    @Override public long getConsumeLatencyP99Nanos() { return consumeLatency.snapshot().getValueAtPercentile(99); }
+
+    @Override
+    public void reset() {
+        itemsProduced.reset();
+        itemsConsumed.reset();
+        producerWaitCount.reset();
+        producerWaitNanos.reset();
+        consumerWaitCount.reset();
+        consumerWaitNanos.reset();
+        resizeCount.reset();
+        resizeNanos.reset();
+        occupancy.reset();
+        produceLatency.reset();
+        consumeLatency.reset();
+    }
+
+    /**
+     * Point-in-time copy of every metric.
+     */
+    public static final class Snapshot {
+        private final long itemsProduced;
+        private final long itemsConsumed;
+        private final long producerWaitCount;
+        private final long producerWaitNanos;
+        private final long consumerWaitCount;
+        private final long consumerWaitNanos;
+        private final long resizeCount;
+        private final long resizeNanos;
+        private final LatencyHistogram.Snapshot occupancy;
+        private final LatencyHistogram.Snapshot produceLatency;
+        private final LatencyHistogram.Snapshot consumeLatency;
+
+        private Snapshot(BufferMetrics metrics) {
+            this.itemsProduced = metrics.itemsProduced.sum();
+            this.itemsConsumed = metrics.itemsConsumed.sum();
+            this.producerWaitCount = metrics.producerWaitCount.sum();
+            this.producerWaitNanos = metrics.producerWaitNanos.sum();
+            this.consumerWaitCount = metrics.consumerWaitCount.sum();
+            this.consumerWaitNanos = metrics.consumerWaitNanos.sum();
+            this.resizeCount = metrics.resizeCount.sum();
+            this.resizeNanos = metrics.resizeNanos.sum();
+            this.occupancy = metrics.occupancy.snapshot();
+            this.produceLatency = metrics.produceLatency.snapshot();
+            this.consumeLatency = metrics.consumeLatency.snapshot();
+        }
+
+        public long getItemsProduced() { return itemsProduced; }
+        public long getItemsConsumed() { return itemsConsumed; }
+        public long getProducerWaitCount() { return producerWaitCount; }
+        public long getProducerWaitNanos() { return producerWaitNanos; }
+        public long getConsumerWaitCount() { return consumerWaitCount; }
+        public long getConsumerWaitNanos() { return consumerWaitNanos; }
+        public long getResizeCount() { return resizeCount; }
+        public long getResizeNanos() { return resizeNanos; }
+        public LatencyHistogram.Snapshot getOccupancy() { return occupancy; }
+        public LatencyHistogram.Snapshot getProduceLatency() { return produceLatency; }
+        public LatencyHistogram.Snapshot getConsumeLatency() { return consumeLatency; }
+
+        @Override
+        public String toString() {
+            return String.format("produced=%d consumed=%d producerWaits=%d (%d ns) consumerWaits=%d (%d ns) "
+                            + "resizes=%d (%d ns)%n  occupancy: %s%n  produce ns: %s%n  consume ns: %s",
+                    itemsProduced, itemsConsumed, producerWaitCount, producerWaitNanos,
+                    consumerWaitCount, consumerWaitNanos, resizeCount, resizeNanos,
+                    occupancy, produceLatency, consumeLatency);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.producerconsumer.concurrency;
+
+/**
+ * JMX view of a {@link BufferMetrics}. Times are in nanoseconds.
+ */
+public interface BufferMetricsMXBean {
+
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+
+    long getItemsProduced();
+    long getItemsConsumed();
+
+    long getProducerWaitCount();
+    long getProducerWaitNanos();
+    long getConsumerWaitCount();
+    long getConsumerWaitNanos();
+
+    long getResizeCount();
+    long getResizeNanos();
+
+    long getOccupancyP50();
+    long getOccupancyP99();
+    long getOccupancyMax();
+
+    long getProduceLatencyP99Nanos();
+    long getConsumeLatencyP99Nanos();
+
+    void reset();
+}
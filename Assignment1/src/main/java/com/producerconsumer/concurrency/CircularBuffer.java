@@ -1,5 +1,9 @@
 package com.producerconsumer.concurrency;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
 public class CircularBuffer<T> extends AbstractBuffer<T> {
 
     protected Object[] bufferArray;
@@ -24,41 +28,152 @@ public class CircularBuffer<T> extends AbstractBuffer<T> {
         }
 
         // Critical Section: Wait while the buffer is at capacity
-        while (isFull()) {
-            System.out.println("[Buffer Monitor] Queue full. Producer is waiting...");
+        while (isFull() && !closed) {
+            eventListener.onProducerWaiting();
             wait(); // Releases lock and waits for notification
         }
+        ensureOpen();
 
-        // Circular increment logic
-        writeCursor = (writeCursor + 1) % bufferLimit;
-        bufferArray[writeCursor] = item;
-        currentCount++;
+        enqueue(item);
 
         // Notify potential consumers that data is available
         notifyAll();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public synchronized T consume() throws InterruptedException {
         // Critical Section: Wait while the buffer is empty
-        while (isEmpty()) {
-            System.out.println("[Buffer Monitor] Queue empty. Consumer is waiting...");
+        while (isEmpty() && !closed) {
+            eventListener.onConsumerWaiting();
             wait(); // Releases lock and waits for notification
         }
+        if (isEmpty()) {
+            return null; // Closed and drained: end of stream
+        }
 
-        T item = (T) bufferArray[readCursor];
-        bufferArray[readCursor] = null; // Clear reference for GC
-
-        // Circular increment logic
-        readCursor = (readCursor + 1) % bufferLimit;
-        currentCount--;
+        T item = dequeue();
 
         // Notify potential producers that space is available
         notifyAll();
         return item;
     }
 
+    @Override
+    public synchronized boolean offer(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+        ensureOpen();
+        if (isFull()) {
+            return false;
+        }
+        enqueue(item);
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+
+        // Track an absolute deadline so spurious or unrelated wake-ups don't restart the clock
+        long remainingNanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remainingNanos;
+        while (isFull() && !closed) {
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            remainingNanos = deadline - System.nanoTime();
+        }
+        ensureOpen();
+
+        enqueue(item);
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized T poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        T item = dequeue();
+        notifyAll();
+        return item;
+    }
+
+    @Override
+    public synchronized T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remainingNanos;
+        while (isEmpty() && !closed) {
+            if (remainingNanos <= 0) {
+                return null;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            remainingNanos = deadline - System.nanoTime();
+        }
+        if (isEmpty()) {
+            return null;
+        }
+
+        T item = dequeue();
+        notifyAll();
+        return item;
+    }
+
+    @Override
+    public synchronized void produceAll(Collection<? extends T> items) throws InterruptedException {
+        requireNoNullItems(items);
+        Iterator<? extends T> pending = items.iterator();
+
+        while (pending.hasNext()) {
+            while (isFull() && !closed) {
+                eventListener.onProducerWaiting();
+                wait();
+            }
+            ensureOpen();
+
+            // Insert as much of the batch as currently fits, then signal once
+            while (pending.hasNext() && !isFull()) {
+                enqueue(pending.next());
+            }
+            notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized int drainTo(Collection<? super T> target, int maxItems) throws InterruptedException {
+        validateDrain(target, maxItems);
+
+        while (isEmpty() && !closed) {
+            eventListener.onConsumerWaiting();
+            wait();
+        }
+        if (isEmpty()) {
+            return 0;
+        }
+
+        int drained = 0;
+        while (drained < maxItems && currentCount > 0) {
+            target.add(dequeue());
+            drained++;
+        }
+
+        // One wake-up for the whole batch of freed slots
+        notifyAll();
+        return drained;
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        notifyAll(); // Producers fail, consumers drain what is left
+    }
+
     @Override
     public synchronized boolean isFull() {
         // If bufferLimit is positive, check if count equals it
@@ -69,4 +184,24 @@ public class CircularBuffer<T> extends AbstractBuffer<T> {
     public synchronized boolean isEmpty() {
         return currentCount == 0;
     }
+
+    // Caller must hold the monitor and have checked there is room
+    protected void enqueue(T item) {
+        // Circular increment logic
+        writeCursor = (writeCursor + 1) % bufferLimit;
+        bufferArray[writeCursor] = item;
+        currentCount++;
+    }
+
+    // Caller must hold the monitor and have checked there is an item
+    @SuppressWarnings("unchecked")
+    protected T dequeue() {
+        T item = (T) bufferArray[readCursor];
+        bufferArray[readCursor] = null; // Clear reference for GC
+
+        // Circular increment logic
+        readCursor = (readCursor + 1) % bufferLimit;
+        currentCount--;
+        return item;
+    }
 }
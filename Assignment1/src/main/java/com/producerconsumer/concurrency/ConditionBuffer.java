@@ -0,0 +1,49 @@
+package com.producerconsumer.concurrency;
+
+/**
+ * Fixed-size circular buffer on the split-condition {@link LockingBuffer} skeleton:
+ * a {@code ReentrantLock} with separate {@code notFull} / {@code notEmpty} conditions
+ * and targeted {@code signal()} calls instead of one monitor and {@code notifyAll()}.
+ * <p>
+ * The optional fair mode hands the lock to the longest-waiting thread, trading
+ * throughput for predictable ordering between producers (or between consumers).
+ */
+public class ConditionBuffer<T> extends LockingBuffer<T> {
+
+    private final Object[] bufferArray;
+    private int readCursor;  // Points to the head (removal end)
+    private int writeCursor; // Points to the next free slot
+
+    public ConditionBuffer(int size, boolean fair) {
+        super(size > 0 ? size : DEFAULT_BUFFER_SIZE, fair);
+        this.bufferArray = new Object[this.bufferLimit];
+    }
+
+    public ConditionBuffer(int size) {
+        this(size, false);
+    }
+
+    public ConditionBuffer() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    protected int capacity() {
+        return bufferLimit;
+    }
+
+    @Override
+    protected void enqueue(T item) {
+        bufferArray[writeCursor] = item;
+        writeCursor = (writeCursor + 1) % bufferLimit;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected T dequeue() {
+        T item = (T) bufferArray[readCursor];
+        bufferArray[readCursor] = null; // Clear reference for GC
+        readCursor = (readCursor + 1) % bufferLimit;
+        return item;
+    }
+}
@@ -0,0 +1,136 @@
+package com.producerconsumer.concurrency;
+
+import java.io.PrintStream;
+
+/**
+ * Prints every event straight to the console, as the original demo did.
+ * Each call takes the stream's lock and does a write, so use it for demos only;
+ * {@link AsyncLoggingListener} produces the same lines off the hot path.
+ */
+public class ConsoleEventListener implements BufferEventListener {
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public ConsoleEventListener(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    public ConsoleEventListener() {
+        this(System.out, System.err);
+    }
+
+    @Override
+    public void onProducerWaiting() {
+        out.println(producerWaiting());
+    }
+
+    @Override
+    public void onConsumerWaiting() {
+        out.println(consumerWaiting());
+    }
+
+    @Override
+    public void onResize(int oldLimit, int newLimit) {
+        out.println(resized(oldLimit, newLimit));
+    }
+
+    @Override
+    public void onProducerStarted(String producerId) {
+        out.println(producerStarted(producerId));
+    }
+
+    @Override
+    public void onProducerFinished(String producerId) {
+        out.println(producerFinished(producerId));
+    }
+
+    @Override
+    public void onConsumerStarted(String consumerId) {
+        out.println(consumerStarted(consumerId));
+    }
+
+    @Override
+    public void onConsumerFinished(String consumerId) {
+        out.println(consumerFinished(consumerId));
+    }
+
+    @Override
+    public void onWorkerInterrupted(String workerId) {
+        err.println(workerInterrupted(workerId));
+    }
+
+    @Override
+    public void onItemProduced(String producerId, Object item) {
+        out.println(itemProduced(producerId, item));
+    }
+
+    @Override
+    public void onItemConsumed(String consumerId, Object item) {
+        out.println(itemConsumed(consumerId, item));
+    }
+
+    @Override
+    public void onItemRejected(String producerId, Object item, OverflowPolicy policy) {
+        out.println(itemRejected(producerId, item, policy));
+    }
+
+    @Override
+    public void onItemProcessedInline(String producerId, Object item) {
+        out.println(itemProcessedInline(producerId, item));
+    }
+
+    // Message formats, shared with AsyncLoggingListener
+
+    static String producerWaiting() {
+        return "[Buffer Monitor] Queue full. Producer is waiting...";
+    }
+
+    static String consumerWaiting() {
+        return "[Buffer Monitor] Queue empty. Consumer is waiting...";
+    }
+
+    static String resized(int oldLimit, int newLimit) {
+        return String.format("[Buffer Monitor] ** Resizing ** Capacity %s from %d to %d",
+                newLimit > oldLimit ? "increased" : "decreased", oldLimit, newLimit);
+    }
+
+    static String producerStarted(String producerId) {
+        return ">> [" + producerId + "] Started.";
+    }
+
+    static String producerFinished(String producerId) {
+        return "<< [" + producerId + "] Finished work.";
+    }
+
+    static String consumerStarted(String consumerId) {
+        return ">> [" + consumerId + "] Ready to process.";
+    }
+
+    static String consumerFinished(String consumerId) {
+        return "<< [" + consumerId + "] All tasks completed.";
+    }
+
+    static String workerInterrupted(String workerId) {
+        return "!! [" + workerId + "] Interrupted. Stopping.";
+    }
+
+    static String itemProduced(String producerId, Object item) {
+        return "   [" + producerId + "] + Generated: " + item;
+    }
+
+    static String itemConsumed(String consumerId, Object item) {
+        return "   [" + consumerId + "] - Processed: " + item;
+    }
+
+    static String itemRejected(String producerId, Object item, OverflowPolicy policy) {
+        return policy == OverflowPolicy.DROP_OLDEST
+                ? "   [" + producerId + "] x Evicted (buffer full): " + item
+                : "   [" + producerId + "] x Dropped (buffer full): " + item;
+    }
+
+    static String itemProcessedInline(String producerId, Object item) {
+        return "   [" + producerId + "] ~ Processed inline (buffer full): " + item;
+    }
+}
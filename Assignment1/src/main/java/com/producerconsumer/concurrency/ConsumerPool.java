@@ -0,0 +1,211 @@
+package com.producerconsumer.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs open-ended {@link TaskConsumer}s against a buffer and scales their number with the backlog.
+ * <p>
+ * A monitor thread samples {@code getCurrentCount()} every interval. A consumer is added when
+ * the buffer is above the high watermark and not draining (the count did not fall since the last
+ * sample), and one is retired when the buffer is below the low watermark and not filling. Each
+ * scaling step is followed by a cooldown, so the pool reacts to trends rather than to every
+ * sample. {@link #requestScaleUp()} lets other components (e.g. a {@link FlowController}
+ * backlog handler) ask for a consumer directly, subject to the same bounds and cooldown.
+ * <p>
+ * {@link #shutdown} drains gracefully: producers are expected to have stopped, the pool closes
+ * the buffer, and every consumer exits once it sees end of stream.
+ */
+public class ConsumerPool {
+
+    public static final double HIGH_WATERMARK = 0.5;
+    public static final double LOW_WATERMARK = 0.1;
+    public static final long DEFAULT_SAMPLE_INTERVAL_MS = 50;
+
+    private final AbstractBuffer<?> buffer;
+    private final int minConsumers;
+    private final int maxConsumers;
+    private final long processingTimeMs;
+    private final long cooldownNanos;
+    private final long sampleIntervalMs;
+    private final ThreadFactory threadFactory;
+
+    // Guarded by this; newest consumer last, and it is the first to be retired
+    private final Deque<Worker> workers = new ArrayDeque<>();
+    // Guarded by this; stopped consumers that may still be processing their last item
+    private final List<Worker> retired = new ArrayList<>();
+    private int startedCount;
+    private int lastSampleCount;
+    private long lastScaleNanos;
+    private Thread monitor;
+    private volatile boolean running;
+
+    public ConsumerPool(AbstractBuffer<?> buffer, int minConsumers, int maxConsumers, long processingTimeMs,
+                        long cooldownMs, long sampleIntervalMs, ThreadFactory threadFactory) {
+        if (buffer == null || threadFactory == null) {
+            throw new IllegalArgumentException("Buffer and thread factory cannot be null.");
+        }
+        if (minConsumers <= 0 || maxConsumers < minConsumers) {
+            throw new IllegalArgumentException("Consumer bounds must satisfy 0 < min <= max.");
+        }
+        if (cooldownMs < 0 || sampleIntervalMs <= 0) {
+            throw new IllegalArgumentException("Cooldown cannot be negative and the sample interval must be positive.");
+        }
+        this.buffer = buffer;
+        this.minConsumers = minConsumers;
+        this.maxConsumers = maxConsumers;
+        this.processingTimeMs = processingTimeMs;
+        this.cooldownNanos = TimeUnit.MILLISECONDS.toNanos(cooldownMs);
+        this.sampleIntervalMs = sampleIntervalMs;
+        this.threadFactory = threadFactory;
+    }
+
+    public ConsumerPool(AbstractBuffer<?> buffer, int minConsumers, int maxConsumers, long processingTimeMs,
+                        long cooldownMs) {
+        this(buffer, minConsumers, maxConsumers, processingTimeMs, cooldownMs, DEFAULT_SAMPLE_INTERVAL_MS,
+                SimulationRunner.threadFactory(SimulationRunner.ThreadMode.PLATFORM, "pool-consumer-"));
+    }
+
+    /**
+     * Starts the minimum number of consumers and the monitor thread.
+     */
+    public synchronized void start() {
+        if (running || monitor != null) {
+            throw new IllegalStateException("Pool has already been started.");
+        }
+        running = true;
+        for (int i = 0; i < minConsumers; i++) {
+            addConsumer();
+        }
+        lastSampleCount = buffer.getCurrentCount();
+        lastScaleNanos = System.nanoTime();
+
+        monitor = new Thread(this::monitorLoop, "consumer-pool-monitor");
+        monitor.setDaemon(true);
+        monitor.start();
+    }
+
+    /**
+     * Adds a consumer now if the pool is below its maximum and out of cooldown.
+     *
+     * @return true if a consumer was added
+     */
+    public synchronized boolean requestScaleUp() {
+        long now = System.nanoTime();
+        if (!running || workers.size() >= maxConsumers || now - lastScaleNanos < cooldownNanos) {
+            return false;
+        }
+        addConsumer();
+        lastScaleNanos = now;
+        return true;
+    }
+
+    /**
+     * Closes the buffer and waits for the consumers to drain it and exit at end of stream, then
+     * stops the monitor. Retired consumers still finishing their last item are waited for too. Producers must have stopped before this is called; any later insert fails.
+     *
+     * @return true if the buffer drained and every consumer exited within the timeout;
+     * otherwise the remaining consumers are interrupted.
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        // Consumers take what is left and then see end of stream, so no item can be stranded
+        buffer.close();
+
+        Thread monitorThread;
+        Worker[] remaining;
+        synchronized (this) {
+            running = false;
+            monitorThread = monitor;
+            retired.addAll(workers);
+            workers.clear();
+            remaining = retired.toArray(new Worker[0]);
+            retired.clear();
+        }
+        if (monitorThread != null) {
+            monitorThread.interrupt();
+        }
+
+        boolean exited = true;
+        for (Worker worker : remaining) {
+            long remainingMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            worker.thread.join(remainingMs);
+            if (worker.thread.isAlive()) {
+                exited = false;
+                worker.thread.interrupt();
+            }
+        }
+        return exited && buffer.isEmpty();
+    }
+
+    public synchronized int getConsumerCount() {
+        return workers.size();
+    }
+
+    // Total consumers ever started, including retired ones
+    public synchronized int getStartedCount() {
+        return startedCount;
+    }
+
+    /**
+     * One sampling step; returns the change in consumer count (-1, 0 or +1).
+     */
+    synchronized int evaluate(long now) {
+        int count = buffer.getCurrentCount();
+        int trend = count - lastSampleCount;
+        lastSampleCount = count;
+        if (!running || now - lastScaleNanos < cooldownNanos) {
+            return 0;
+        }
+
+        double occupancy = (double) count / buffer.getBufferLimit();
+        if (occupancy >= HIGH_WATERMARK && trend >= 0 && workers.size() < maxConsumers) {
+            addConsumer();
+            lastScaleNanos = now;
+            return 1;
+        }
+        if (occupancy <= LOW_WATERMARK && trend <= 0 && workers.size() > minConsumers) {
+            // Retire the newest consumer; it finishes the item in hand and exits
+            Worker worker = workers.removeLast();
+            worker.consumer.stop();
+            retired.removeIf(w -> !w.thread.isAlive());
+            retired.add(worker);
+            lastScaleNanos = now;
+            return -1;
+        }
+        return 0;
+    }
+
+    private void monitorLoop() {
+        while (running) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(sampleIntervalMs);
+            } catch (InterruptedException e) {
+                return; // Shutting down
+            }
+            evaluate(System.nanoTime());
+        }
+    }
+
+    // Caller must hold the monitor
+    private void addConsumer() {
+        TaskConsumer consumer = new TaskConsumer(buffer, processingTimeMs, "Pool-C" + (++startedCount));
+        Thread thread = threadFactory.newThread(consumer);
+        workers.addLast(new Worker(consumer, thread));
+        thread.start();
+    }
+
+    private static final class Worker {
+        final TaskConsumer consumer;
+        final Thread thread;
+
+        Worker(TaskConsumer consumer, Thread thread) {
+            this.consumer = consumer;
+            this.thread = thread;
+        }
+    }
+}
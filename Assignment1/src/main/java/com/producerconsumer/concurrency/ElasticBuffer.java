@@ -1,39 +1,169 @@
 package com.producerconsumer.concurrency;
 
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link CircularBuffer} that grows under load and gives memory back once load subsides.
+ * <p>
+ * Growth happens before an insert when occupancy reaches the grow threshold, until the
+ * maximum capacity is reached; from then on producers block exactly like a fixed buffer.
+ * Shrinking uses hysteresis: occupancy has to stay below the (much lower) shrink threshold
+ * for a full buffer-length of consecutive removals before capacity is divided by the growth
+ * factor, and never below the initial capacity.
+ */
 public class ElasticBuffer<T> extends CircularBuffer<T> {
 
     // Threshold changed to 75% for better performance
-    private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+    public static final double DEFAULT_GROW_THRESHOLD = 0.75;
     // Growth factor changed to 2.0 (Double size)
-    private static final double EXPANSION_MULTIPLIER = 2.0;
+    public static final double DEFAULT_GROWTH_FACTOR = 2.0;
+    // Shrink only when a quarter full or less, well clear of the grow threshold
+    public static final double DEFAULT_SHRINK_THRESHOLD = 0.25;
+    // Upper bound so a runaway producer hits backpressure instead of an OutOfMemoryError
+    public static final int DEFAULT_MAX_CAPACITY = 1 << 20;
 
-    public ElasticBuffer(int initialSize) {
+    private final int minCapacity;
+    private final int maxCapacity;
+    private final double growthFactor;
+    private final double growThreshold;
+    private final double shrinkThreshold;
+
+    // Consecutive removals that left the buffer below the shrink threshold
+    private int lowOccupancyStreak;
+
+    // Optional resize instrumentation, attached by InstrumentedBuffer
+    private volatile BufferMetrics metrics;
+
+    public ElasticBuffer(int initialSize, int maxCapacity, double growthFactor,
+                         double growThreshold, double shrinkThreshold) {
         super(initialSize);
+        if (maxCapacity < bufferLimit) {
+            throw new IllegalArgumentException("Max capacity cannot be smaller than the initial size.");
+        }
+        if (growthFactor <= 1.0) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1.");
+        }
+        if (growThreshold <= 0.0 || growThreshold > 1.0) {
+            throw new IllegalArgumentException("Grow threshold must be in (0, 1].");
+        }
+        // After a shrink the load is multiplied by the growth factor; it must stay below the grow threshold
+        if (shrinkThreshold < 0.0 || shrinkThreshold * growthFactor >= growThreshold) {
+            throw new IllegalArgumentException("Shrink threshold times growth factor must stay below the grow threshold.");
+        }
+        this.minCapacity = bufferLimit;
+        this.maxCapacity = maxCapacity;
+        this.growthFactor = growthFactor;
+        this.growThreshold = growThreshold;
+        this.shrinkThreshold = shrinkThreshold;
+    }
+
+    public ElasticBuffer(int initialSize, int maxCapacity) {
+        this(initialSize, maxCapacity, DEFAULT_GROWTH_FACTOR, DEFAULT_GROW_THRESHOLD, DEFAULT_SHRINK_THRESHOLD);
+    }
+
+    public ElasticBuffer(int initialSize) {
+        this(initialSize, Math.max(initialSize, DEFAULT_MAX_CAPACITY));
     }
 
     public ElasticBuffer() {
-        super(DEFAULT_BUFFER_SIZE);
+        this(DEFAULT_BUFFER_SIZE);
     }
 
     @Override
     public synchronized void produce(T item) throws InterruptedException {
-        // Check load factor before producing
+        expandIfLoaded();
+
+        // Delegate to parent for actual insertion logic (blocks if we are already at max capacity)
+        super.produce(item);
+    }
+
+    @Override
+    public synchronized boolean offer(T item) {
+        expandIfLoaded();
+        return super.offer(item);
+    }
+
+    @Override
+    public synchronized boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        expandIfLoaded();
+        return super.offer(item, timeout, unit);
+    }
+
+    @Override
+    public synchronized void produceAll(Collection<? extends T> items) throws InterruptedException {
+        requireNoNullItems(items);
+        ensureOpen();
+
+        // Grow once up front to where the per-item load check would have ended up,
+        // so the whole batch goes in with a single copy per growth step
+        int incoming = items.size();
+        while (incoming > 0 && bufferLimit < maxCapacity
+                && (double) (currentCount + incoming - 1) / bufferLimit >= growThreshold) {
+            resizeBuffer(grownLimit());
+        }
+
+        super.produceAll(items);
+    }
+
+    // Every removal path (consume, poll, drainTo) goes through here while holding the monitor
+    @Override
+    protected T dequeue() {
+        T item = super.dequeue();
+        shrinkIfIdle();
+        return item;
+    }
+
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    public void setMetrics(BufferMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Check load factor before producing
+    private void expandIfLoaded() {
+        if (closed) {
+            return; // The insert is about to fail; don't grow for it
+        }
         double currentLoad = (double) currentCount / bufferLimit;
 
-        if (currentLoad >= LOAD_FACTOR_THRESHOLD) {
-            expandBuffer();
+        if (currentLoad >= growThreshold && bufferLimit < maxCapacity) {
+            resizeBuffer(grownLimit());
+        }
+    }
+
+    private void shrinkIfIdle() {
+        if (bufferLimit <= minCapacity || (double) currentCount / bufferLimit >= shrinkThreshold) {
+            lowOccupancyStreak = 0;
+            return;
         }
 
-        // Delegate to parent for actual insertion logic
-        super.produce(item);
+        // Only a sustained lull counts; a single dip between bursts would just cause resize churn
+        if (++lowOccupancyStreak >= bufferLimit) {
+            lowOccupancyStreak = 0;
+            int newLimit = Math.max(minCapacity, (int) (bufferLimit / growthFactor));
+            resizeBuffer(Math.max(newLimit, currentCount));
+        }
+    }
+
+    private int grownLimit() {
+        long target = (long) (bufferLimit * growthFactor);
+        return (int) Math.min(maxCapacity, Math.max(bufferLimit + 1L, target));
     }
 
     /**
-     * Expands the internal array and realigns the circular indices.
+     * Moves the items into a new array of the given size and realigns the circular indices.
      */
-    private void expandBuffer() {
+    private void resizeBuffer(int newLimit) {
         int oldLimit = bufferLimit;
-        int newLimit = (int) (oldLimit * EXPANSION_MULTIPLIER);
+        if (newLimit == oldLimit) {
+            return;
+        }
+        BufferMetrics resizeMetrics = metrics;
+        boolean timed = resizeMetrics != null && resizeMetrics.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
 
         Object[] newArray = new Object[newLimit];
 
@@ -49,6 +179,10 @@ public class ElasticBuffer<T> extends CircularBuffer<T> {
         this.readCursor = 0;
         this.writeCursor = currentCount - 1;
 
-        System.out.printf("[Buffer Monitor] ** Resizing ** Capacity increased from %d to %d%n", oldLimit, newLimit);
+        if (timed) {
+            resizeMetrics.recordResize(System.nanoTime() - start);
+        }
+
+        eventListener.onResize(oldLimit, newLimit);
     }
 }
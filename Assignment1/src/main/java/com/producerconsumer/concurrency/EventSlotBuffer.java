@@ -0,0 +1,218 @@
+package com.producerconsumer.concurrency;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded ring of pre-allocated, reusable event objects for any number of producers and consumers.
+ * <p>
+ * Instead of handing items over, producers {@link #claim()} a slot, fill the event in place via
+ * {@link #get(long)} and {@link #publish(long)} it; consumers {@link #take()} a published slot,
+ * read the event in place and {@link #release(long)} it for reuse. Every event is created up front
+ * by the factory, so the steady state allocates nothing.
+ * <p>
+ * Slot hand-off works like {@link MpmcRingBuffer}: each slot's sequence says whose turn it is,
+ * and claiming is a CAS on the producer or consumer cursor. Claims must always be followed by
+ * the matching publish/release, or the ring stalls at that slot on the next lap.
+ * <p>
+ * This is deliberately not an {@link AbstractBuffer}: {@code produce(T)} passes ownership of a
+ * new object, which is exactly the allocation this buffer avoids.
+ */
+public class EventSlotBuffer<E> {
+
+    // Returned by tryClaim/tryTake when nothing is available; real sequences are never negative
+    public static final long NONE = -1L;
+
+    private static final VarHandle SLOT_SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final Object[] events;
+    private final long[] slotSequences;
+    private final int capacity;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    private final Sequence head = new Sequence(0); // Next position to claim for consuming
+    private final Sequence tail = new Sequence(0); // Next position to claim for producing
+
+    public EventSlotBuffer(int size, Supplier<? extends E> factory, WaitStrategy waitStrategy) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Event factory cannot be null.");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null.");
+        }
+        this.capacity = MpmcRingBuffer.roundUpToPowerOfTwo(size > 0 ? size : AbstractBuffer.DEFAULT_BUFFER_SIZE);
+        this.events = new Object[capacity];
+        this.slotSequences = new long[capacity];
+        this.mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+
+        for (int i = 0; i < capacity; i++) {
+            E event = factory.get();
+            if (event == null) {
+                throw new IllegalArgumentException("Event factory returned null.");
+            }
+            events[i] = event;
+            SLOT_SEQUENCE.setRelease(slotSequences, i, (long) i);
+        }
+    }
+
+    public EventSlotBuffer(int size, Supplier<? extends E> factory) {
+        this(size, factory, WaitStrategy.YIELD);
+    }
+
+    // Producer side
+
+    /**
+     * Claims the next free slot, waiting while the buffer is full.
+     *
+     * @return the slot's sequence, to pass to {@link #get(long)} and {@link #publish(long)}
+     */
+    public long claim() throws InterruptedException {
+        long sequence;
+        while ((sequence = tryClaim()) == NONE) {
+            waitStrategy.await();
+        }
+        return sequence;
+    }
+
+    /**
+     * Claims the next free slot, or returns {@link #NONE} without waiting if the buffer is full.
+     */
+    public long tryClaim() {
+        long position = tail.get();
+        while (true) {
+            long difference = slotSequence(position) - position;
+            if (difference == 0) {
+                // Slot is free for this position; race other producers for it
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // Slot still holds an event from the previous lap: buffer is full
+                return NONE;
+            } else {
+                // Another producer already took this position
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Makes a claimed, filled slot visible to consumers.
+     */
+    public void publish(long sequence) {
+        SLOT_SEQUENCE.setRelease(slotSequences, (int) sequence & mask, sequence + 1);
+    }
+
+    /**
+     * Claims a slot, lets {@code writer} fill its event in place and publishes it.
+     * A non-capturing writer (or one reused across calls) keeps this allocation-free.
+     */
+    public void produce(Consumer<? super E> writer) throws InterruptedException {
+        long sequence = claim();
+        try {
+            writer.accept(get(sequence));
+        } finally {
+            // Publish even if the writer failed, so the ring cannot stall on this slot
+            publish(sequence);
+        }
+    }
+
+    // Consumer side
+
+    /**
+     * Claims the next published slot, waiting while the buffer is empty.
+     *
+     * @return the slot's sequence, to pass to {@link #get(long)} and {@link #release(long)}
+     */
+    public long take() throws InterruptedException {
+        long sequence;
+        while ((sequence = tryTake()) == NONE) {
+            waitStrategy.await();
+        }
+        return sequence;
+    }
+
+    /**
+     * Claims the next published slot, or returns {@link #NONE} without waiting if the buffer is empty.
+     */
+    public long tryTake() {
+        long position = head.get();
+        while (true) {
+            long difference = slotSequence(position) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // Producer has not published this position yet: buffer is empty
+                return NONE;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Hands a consumed slot back to producers; its event must not be touched afterwards.
+     */
+    public void release(long sequence) {
+        // Free the slot for the producer that will claim it on the next lap
+        SLOT_SEQUENCE.setRelease(slotSequences, (int) sequence & mask, sequence + capacity);
+    }
+
+    /**
+     * Takes the next event, lets {@code reader} read it in place and releases the slot.
+     */
+    public void consume(Consumer<? super E> reader) throws InterruptedException {
+        long sequence = take();
+        try {
+            reader.accept(get(sequence));
+        } finally {
+            release(sequence);
+        }
+    }
+
+    // Shared
+
+    /**
+     * The event in the slot for {@code sequence}. Only valid between claim and publish
+     * (producer) or between take and release (consumer).
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) events[(int) sequence & mask];
+    }
+
+    public boolean isFull() {
+        return getCurrentCount() >= capacity;
+    }
+
+    public boolean isEmpty() {
+        return getCurrentCount() == 0;
+    }
+
+    // Approximate under contention: claimed positions may not be published or released yet
+    public int getCurrentCount() {
+        long consumed = head.get();
+        long produced = tail.get();
+        return (int) Math.max(0, Math.min(produced - consumed, capacity));
+    }
+
+    public int getBufferLimit() {
+        return capacity;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    private long slotSequence(long position) {
+        return (long) SLOT_SEQUENCE.getAcquire(slotSequences, (int) position & mask);
+    }
+}
@@ -0,0 +1,177 @@
+package com.producerconsumer.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces producers to hold a buffer near a target occupancy instead of letting it swing
+ * between full and empty.
+ * <p>
+ * Producers call {@link #acquire()} before each item; permits are handed out at the current rate
+ * (a token bucket without burst, so items are spaced evenly). Every adjustment interval the rate
+ * is corrected AIMD-style from what the buffer actually did:
+ * <ul>
+ *   <li>below target: the rate grows by a fixed step (additive increase);</li>
+ *   <li>above target: the rate is halved, and never left above the measured drain rate
+ *       (multiplicative decrease).</li>
+ * </ul>
+ * The drain rate is estimated from the permits granted and the change in occupancy over the
+ * interval. With a target latency, the occupancy target is also capped so the expected wait
+ * (queued items / drain rate, by Little's law) stays within it.
+ * <p>
+ * If the buffer stays above target for several intervals in a row, even at the drain rate, the
+ * optional backlog handler is called, e.g. to add a consumer. The adjustment runs inline in
+ * whichever producer's {@code acquire()} finds it due, so no extra thread is needed.
+ */
+public class FlowController {
+
+    public static final long DEFAULT_ADJUST_INTERVAL_MS = 50;
+    // Consecutive over-target adjustments before the backlog handler is called
+    static final int BACKLOG_INTERVALS = 3;
+
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_STEPS = 50.0; // Additive step is 1/50 of the rate range
+    private static final double DRAIN_SMOOTHING = 0.3; // EWMA weight of the newest drain sample
+
+    private final AbstractBuffer<?> buffer;
+    private final double targetOccupancy;
+    private final long targetLatencyNanos;
+    private final double minRate;
+    private final double maxRate;
+    private final double additiveIncrease;
+    private final long adjustIntervalNanos;
+
+    // Guarded by this
+    private double rate;
+    private long nextPermitNanos;
+    private long nextAdjustNanos;
+    private long permitsSinceAdjust;
+    private int lastCount;
+    private double drainRate;
+    private int backlogStreak;
+
+    private volatile Runnable backlogHandler;
+
+    /**
+     * @param targetOccupancy    fraction of the buffer to keep filled, in (0, 1)
+     * @param targetLatencyMs    upper bound on the expected queueing delay, or 0 for none
+     * @param minRate            slowest producer pace in items per second (across all producers)
+     * @param maxRate            fastest producer pace in items per second
+     */
+    public FlowController(AbstractBuffer<?> buffer, double targetOccupancy, long targetLatencyMs,
+                          double minRate, double maxRate, long adjustIntervalMs) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null.");
+        }
+        if (targetOccupancy <= 0.0 || targetOccupancy >= 1.0) {
+            throw new IllegalArgumentException("Target occupancy must be in (0, 1).");
+        }
+        if (targetLatencyMs < 0 || adjustIntervalMs <= 0) {
+            throw new IllegalArgumentException("Target latency cannot be negative and the adjust interval must be positive.");
+        }
+        if (minRate <= 0.0 || maxRate < minRate) {
+            throw new IllegalArgumentException("Rates must be positive with min <= max.");
+        }
+        this.buffer = buffer;
+        this.targetOccupancy = targetOccupancy;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.additiveIncrease = Math.max((maxRate - minRate) / INCREASE_STEPS, minRate / INCREASE_STEPS);
+        this.adjustIntervalNanos = TimeUnit.MILLISECONDS.toNanos(adjustIntervalMs);
+
+        long now = System.nanoTime();
+        this.rate = (minRate + maxRate) / 2;
+        this.nextPermitNanos = now;
+        this.nextAdjustNanos = now + adjustIntervalNanos;
+        this.lastCount = buffer.getCurrentCount();
+    }
+
+    public FlowController(AbstractBuffer<?> buffer, double targetOccupancy, double minRate, double maxRate) {
+        this(buffer, targetOccupancy, 0, minRate, maxRate, DEFAULT_ADJUST_INTERVAL_MS);
+    }
+
+    /**
+     * Waits until this producer may publish its next item.
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    // Items per second the consumers removed, smoothed over recent intervals
+    public synchronized double getDrainRate() {
+        return drainRate;
+    }
+
+    public double getTargetOccupancy() {
+        return targetOccupancy;
+    }
+
+    /**
+     * Called (on a producer thread) when the backlog persists above target; must not block.
+     */
+    public void setBacklogHandler(Runnable backlogHandler) {
+        this.backlogHandler = backlogHandler;
+    }
+
+    /**
+     * Takes the next permit and returns how long the caller must wait before using it.
+     */
+    synchronized long reserve(long now) {
+        if (now - nextAdjustNanos >= 0) {
+            adjust(now);
+        }
+        long start = Math.max(nextPermitNanos, now);
+        nextPermitNanos = start + (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        permitsSinceAdjust++;
+        return start - now;
+    }
+
+    // Caller must hold the monitor
+    void adjust(long now) {
+        long elapsed = now - (nextAdjustNanos - adjustIntervalNanos);
+        nextAdjustNanos = now + adjustIntervalNanos;
+
+        int count = buffer.getCurrentCount();
+        // Whatever went in but didn't stay must have been drained (approximate across producers)
+        long drained = Math.max(0, permitsSinceAdjust - (count - lastCount));
+        double sample = elapsed > 0 ? drained * (double) TimeUnit.SECONDS.toNanos(1) / elapsed : drainRate;
+        drainRate = drainRate == 0.0 ? sample : DRAIN_SMOOTHING * sample + (1 - DRAIN_SMOOTHING) * drainRate;
+        permitsSinceAdjust = 0;
+        lastCount = count;
+
+        double occupancy = (double) count / buffer.getBufferLimit();
+        if (occupancy > effectiveTarget()) {
+            double decreased = rate * DECREASE_FACTOR;
+            if (drainRate > 0) {
+                decreased = Math.min(decreased, drainRate);
+            }
+            rate = Math.max(minRate, decreased);
+            if (++backlogStreak >= BACKLOG_INTERVALS) {
+                backlogStreak = 0;
+                Runnable handler = backlogHandler;
+                if (handler != null) {
+                    handler.run();
+                }
+            }
+        } else {
+            rate = Math.min(maxRate, rate + additiveIncrease);
+            backlogStreak = 0;
+        }
+    }
+
+    // The occupancy target, tightened so queued items / drain rate stays under the latency target
+    private double effectiveTarget() {
+        if (targetLatencyNanos == 0 || drainRate <= 0) {
+            return targetOccupancy;
+        }
+        double itemsWithinLatency = drainRate * targetLatencyNanos / TimeUnit.SECONDS.toNanos(1);
+        return Math.min(targetOccupancy, itemsWithinLatency / buffer.getBufferLimit());
+    }
+}
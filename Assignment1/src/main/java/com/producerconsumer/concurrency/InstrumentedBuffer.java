@@ -0,0 +1,211 @@
+package com.producerconsumer.concurrency;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator that records {@link BufferMetrics} around any {@link AbstractBuffer}.
+ * <p>
+ * Blocking calls first try the non-blocking {@code offer}/{@code poll}; only when that fails is
+ * the call counted as a wait, and the time until the blocking call returns is the time spent
+ * blocked on a full (or empty) buffer. When the metrics are disabled every call goes straight
+ * to the delegate after a single volatile read.
+ * <p>
+ * Wrapping an {@link ElasticBuffer} also attaches the metrics to it so resizes are recorded.
+ */
+public class InstrumentedBuffer<T> extends AbstractBuffer<T> {
+
+    private final AbstractBuffer<T> delegate;
+    private final BufferMetrics metrics;
+
+    public InstrumentedBuffer(AbstractBuffer<T> delegate, BufferMetrics metrics) {
+        super(delegate.getBufferLimit());
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null.");
+        }
+        this.delegate = delegate;
+        this.metrics = metrics;
+        if (delegate instanceof ElasticBuffer) {
+            ((ElasticBuffer<T>) delegate).setMetrics(metrics);
+        }
+    }
+
+    public InstrumentedBuffer(AbstractBuffer<T> delegate) {
+        this(delegate, new BufferMetrics());
+    }
+
+    @Override
+    public void produce(T item) throws InterruptedException {
+        if (!metrics.isEnabled()) {
+            delegate.produce(item);
+            return;
+        }
+        long start = System.nanoTime();
+        if (!delegate.offer(item)) {
+            delegate.produce(item);
+            metrics.recordProducerWait(System.nanoTime() - start);
+        }
+        metrics.recordProduced(1, System.nanoTime() - start, delegate.getCurrentCount());
+    }
+
+    @Override
+    public T consume() throws InterruptedException {
+        if (!metrics.isEnabled()) {
+            return delegate.consume();
+        }
+        long start = System.nanoTime();
+        T item = delegate.poll();
+        if (item == null) {
+            item = delegate.consume();
+            metrics.recordConsumerWait(System.nanoTime() - start);
+        }
+        if (item != null) { // Null is end of stream, not an item
+            metrics.recordConsumed(1, System.nanoTime() - start, delegate.getCurrentCount());
+        }
+        return item;
+    }
+
+    @Override
+    public boolean offer(T item) {
+        if (!metrics.isEnabled()) {
+            return delegate.offer(item);
+        }
+        long start = System.nanoTime();
+        boolean added = delegate.offer(item);
+        if (added) {
+            metrics.recordProduced(1, System.nanoTime() - start, delegate.getCurrentCount());
+        }
+        return added;
+    }
+
+    @Override
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!metrics.isEnabled()) {
+            return delegate.offer(item, timeout, unit);
+        }
+        long start = System.nanoTime();
+        boolean added = delegate.offer(item);
+        if (!added) {
+            added = delegate.offer(item, timeout, unit);
+            metrics.recordProducerWait(System.nanoTime() - start);
+        }
+        if (added) {
+            metrics.recordProduced(1, System.nanoTime() - start, delegate.getCurrentCount());
+        }
+        return added;
+    }
+
+    @Override
+    public T poll() {
+        if (!metrics.isEnabled()) {
+            return delegate.poll();
+        }
+        long start = System.nanoTime();
+        T item = delegate.poll();
+        if (item != null) {
+            metrics.recordConsumed(1, System.nanoTime() - start, delegate.getCurrentCount());
+        }
+        return item;
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!metrics.isEnabled()) {
+            return delegate.poll(timeout, unit);
+        }
+        long start = System.nanoTime();
+        T item = delegate.poll();
+        if (item == null) {
+            item = delegate.poll(timeout, unit);
+            metrics.recordConsumerWait(System.nanoTime() - start);
+        }
+        if (item != null) {
+            metrics.recordConsumed(1, System.nanoTime() - start, delegate.getCurrentCount());
+        }
+        return item;
+    }
+
+    @Override
+    public void produceAll(Collection<? extends T> items) throws InterruptedException {
+        if (!metrics.isEnabled()) {
+            delegate.produceAll(items);
+            return;
+        }
+        long start = System.nanoTime();
+        delegate.produceAll(items);
+        metrics.recordProduced(items.size(), System.nanoTime() - start, delegate.getCurrentCount());
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> target, int maxItems) throws InterruptedException {
+        if (!metrics.isEnabled()) {
+            return delegate.drainTo(target, maxItems);
+        }
+        long start = System.nanoTime();
+        // One status check per batch tells us whether the drain is about to block
+        boolean wasEmpty = delegate.isEmpty();
+        int drained = delegate.drainTo(target, maxItems);
+        long elapsed = System.nanoTime() - start;
+        if (wasEmpty) {
+            metrics.recordConsumerWait(elapsed);
+        }
+        if (drained > 0) { // 0 is end of stream; an empty sample would skew the histograms
+            metrics.recordConsumed(drained, elapsed, delegate.getCurrentCount());
+        }
+        return drained;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public boolean canEvictOldest() {
+        return delegate.canEvictOldest();
+    }
+
+    @Override
+    public boolean isFull() {
+        return delegate.isFull();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public int getCurrentCount() {
+        return delegate.getCurrentCount();
+    }
+
+    @Override
+    public int getBufferLimit() {
+        return delegate.getBufferLimit();
+    }
+
+    // Events come from the wrapped buffer, so it has to see the listener too
+    @Override
+    public BufferEventListener getEventListener() {
+        return delegate.getEventListener();
+    }
+
+    @Override
+    public void setEventListener(BufferEventListener eventListener) {
+        delegate.setEventListener(eventListener);
+    }
+
+    public AbstractBuffer<T> getDelegate() {
+        return delegate;
+    }
+
+    public BufferMetrics getMetrics() {
+        return metrics;
+    }
+}
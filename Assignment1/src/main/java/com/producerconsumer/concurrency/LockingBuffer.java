@@ -0,0 +1,332 @@
+package com.producerconsumer.concurrency;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Blocking skeleton shared by buffers guarded by a {@link ReentrantLock} with separate
+ * {@code notFull} / {@code notEmpty} conditions, instead of one monitor and {@code notifyAll()}.
+ * <p>
+ * Producers only ever wake a consumer and consumers only ever wake a producer, and only
+ * on the empty -> non-empty and full -> non-full transitions. A woken thread that finds
+ * more work (or room) left behind passes the signal on to the next waiter of its own kind,
+ * so a burst that arrives between two wake-ups is never stranded.
+ * <p>
+ * Subclasses only supply the storage: {@link #enqueue}, {@link #dequeue} and {@link #capacity()},
+ * all called with the lock held. The base class keeps {@code currentCount}. Subclasses that add
+ * their own insert paths can reuse {@link #awaitNotFull()} and {@link #signalAfterProduce(int)}.
+ * <p>
+ * {@link #close()} signals both conditions with {@code signalAll()}. Every waiter then re-checks the
+ * closed flag: producers throw and consumers take what is left or return end of stream.
+ */
+public abstract class LockingBuffer<T> extends AbstractBuffer<T> {
+
+    protected final ReentrantLock lock;
+    private final Condition notFull;
+    private final Condition notEmpty;
+
+    // Guarded by lock: lets the cascade skip signal() when nobody of that kind is waiting
+    private int waitingProducers;
+    private int waitingConsumers;
+
+    protected LockingBuffer(int bufferLimit, boolean fair) {
+        super(bufferLimit);
+        this.lock = new ReentrantLock(fair);
+        this.notFull = lock.newCondition();
+        this.notEmpty = lock.newCondition();
+    }
+
+    // Storage hooks; the lock is always held when these are called
+    protected abstract void enqueue(T item);
+
+    protected abstract T dequeue();
+
+    // Most items the buffer may hold before producers have to wait
+    protected abstract int capacity();
+
+    @Override
+    public void produce(T item) throws InterruptedException {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+
+        lock.lockInterruptibly();
+        try {
+            awaitNotFull();
+            insert(item);
+            signalAfterProduce(1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T consume() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            awaitNotEmpty();
+            if (currentCount == 0) {
+                return null; // Closed and drained: end of stream
+            }
+            T item = remove();
+            signalAfterConsume(1);
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+
+        lock.lock();
+        try {
+            ensureOpen();
+            if (currentCount >= capacity()) {
+                return false;
+            }
+            insert(item);
+            signalAfterProduce(1);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+
+        lock.lockInterruptibly();
+        try {
+            if (!awaitNotFull(unit.toNanos(timeout))) {
+                return false;
+            }
+            insert(item);
+            signalAfterProduce(1);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            if (currentCount == 0) {
+                return null;
+            }
+            T item = remove();
+            signalAfterConsume(1);
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (!awaitNotEmpty(unit.toNanos(timeout))) {
+                return null;
+            }
+            T item = remove();
+            signalAfterConsume(1);
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void produceAll(Collection<? extends T> items) throws InterruptedException {
+        requireNoNullItems(items);
+        Iterator<? extends T> pending = items.iterator();
+
+        lock.lockInterruptibly();
+        try {
+            while (pending.hasNext()) {
+                awaitNotFull();
+
+                int inserted = 0;
+                while (pending.hasNext() && currentCount < capacity()) {
+                    insert(pending.next());
+                    inserted++;
+                }
+                signalAfterProduce(inserted);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> target, int maxItems) throws InterruptedException {
+        validateDrain(target, maxItems);
+
+        lock.lockInterruptibly();
+        try {
+            awaitNotEmpty();
+
+            int drained = 0;
+            while (drained < maxItems && currentCount > 0) {
+                target.add(remove());
+                drained++;
+            }
+            signalAfterConsume(drained);
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            super.close();
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isFull() {
+        return currentCount >= capacity();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return currentCount == 0;
+    }
+
+    public boolean isFair() {
+        return lock.isFair();
+    }
+
+    private void insert(T item) {
+        enqueue(item);
+        currentCount++;
+    }
+
+    private T remove() {
+        T item = dequeue();
+        currentCount--;
+        return item;
+    }
+
+    // Caller must hold the lock; throws IllegalStateException if the buffer is (or becomes) closed
+    protected void awaitNotFull() throws InterruptedException {
+        while (currentCount >= capacity() && !closed) {
+            eventListener.onProducerWaiting();
+            waitingProducers++;
+            try {
+                notFull.await();
+            } catch (InterruptedException e) {
+                // We may have consumed a signal meant for someone else; pass it on
+                if (currentCount < capacity()) {
+                    notFull.signal();
+                }
+                throw e;
+            } finally {
+                waitingProducers--;
+            }
+        }
+        ensureOpen();
+    }
+
+    // Caller must hold the lock; returns with currentCount == 0 only if the buffer is closed
+    private void awaitNotEmpty() throws InterruptedException {
+        while (currentCount == 0 && !closed) {
+            eventListener.onConsumerWaiting();
+            waitingConsumers++;
+            try {
+                notEmpty.await();
+            } catch (InterruptedException e) {
+                if (currentCount > 0) {
+                    notEmpty.signal();
+                }
+                throw e;
+            } finally {
+                waitingConsumers--;
+            }
+        }
+    }
+
+    // Caller must hold the lock. awaitNanos returns the time left, so the deadline survives spurious wake-ups
+    protected boolean awaitNotFull(long nanos) throws InterruptedException {
+        while (currentCount >= capacity() && !closed) {
+            if (nanos <= 0) {
+                return false;
+            }
+            eventListener.onProducerWaiting();
+            waitingProducers++;
+            try {
+                nanos = notFull.awaitNanos(nanos);
+            } catch (InterruptedException e) {
+                if (currentCount < capacity()) {
+                    notFull.signal();
+                }
+                throw e;
+            } finally {
+                waitingProducers--;
+            }
+        }
+        ensureOpen();
+        return true;
+    }
+
+    // Caller must hold the lock; false on timeout or once the buffer is closed and drained
+    private boolean awaitNotEmpty(long nanos) throws InterruptedException {
+        while (currentCount == 0 && !closed) {
+            if (nanos <= 0) {
+                return false;
+            }
+            eventListener.onConsumerWaiting();
+            waitingConsumers++;
+            try {
+                nanos = notEmpty.awaitNanos(nanos);
+            } catch (InterruptedException e) {
+                if (currentCount > 0) {
+                    notEmpty.signal();
+                }
+                throw e;
+            } finally {
+                waitingConsumers--;
+            }
+        }
+        return currentCount > 0;
+    }
+
+    // Caller must hold the lock; inserted items have already been counted
+    protected void signalAfterProduce(int inserted) {
+        if (inserted > 0 && currentCount == inserted) {
+            notEmpty.signal(); // empty -> non-empty
+        }
+        if (currentCount < capacity() && waitingProducers > 0) {
+            notFull.signal(); // Room left over: let the next producer in
+        }
+    }
+
+    // Caller must hold the lock; removed items have already been uncounted
+    private void signalAfterConsume(int removed) {
+        if (removed > 0 && currentCount + removed >= capacity()) {
+            notFull.signal(); // full -> non-full
+        }
+        if (currentCount > 0 && waitingConsumers > 0) {
+            notEmpty.signal(); // Items left over: let the next consumer in
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.producerconsumer.concurrency;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded circular buffer for {@code long} payloads (sequence IDs, offsets) stored in a
+ * {@code long[]}. It shares no code with {@link CircularBuffer} and is not a drop-in for it.
+ * <p>
+ * The primitive methods ({@link #produce(long)}, {@link #consumeLong()}, {@link #offer(long)},
+ * {@link #produceAll(long[], int)}, {@link #drainTo(long[], int)}) never box and allocate nothing
+ * per item. The inherited {@code AbstractBuffer<Long>} methods still work, so the buffer can be
+ * handed to generic code, but they box on the way in or out.
+ * <p>
+ * A {@code long} has no spare value for end of stream, so once the buffer is closed and drained
+ * {@link #consumeLong()} throws {@link NoSuchElementException}. Streaming consumers should use
+ * {@link #drainTo(long[], int)}, which returns 0 instead.
+ */
+public class LongCircularBuffer extends AbstractBuffer<Long> {
+
+    private final long[] bufferArray;
+    private int readCursor;  // Points to the head (removal end)
+    private int writeCursor; // Points to the tail (insertion end)
+
+    public LongCircularBuffer(int size) {
+        super(size > 0 ? size : DEFAULT_BUFFER_SIZE);
+        this.bufferArray = new long[this.bufferLimit];
+        this.readCursor = 0;
+        this.writeCursor = -1;
+    }
+
+    public LongCircularBuffer() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    // Primitive API
+
+    public synchronized void produce(long item) throws InterruptedException {
+        while (isFull() && !closed) {
+            eventListener.onProducerWaiting();
+            wait();
+        }
+        ensureOpen();
+
+        enqueue(item);
+        notifyAll();
+    }
+
+    /**
+     * @throws NoSuchElementException once the buffer is closed and drained.
+     */
+    public synchronized long consumeLong() throws InterruptedException {
+        if (!awaitItem()) {
+            throw new NoSuchElementException("Buffer is closed and drained.");
+        }
+
+        long item = dequeue();
+        notifyAll();
+        return item;
+    }
+
+    public synchronized boolean offer(long item) {
+        ensureOpen();
+        if (isFull()) {
+            return false;
+        }
+        enqueue(item);
+        notifyAll();
+        return true;
+    }
+
+    public synchronized boolean offer(long item, long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remainingNanos;
+        while (isFull() && !closed) {
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            remainingNanos = deadline - System.nanoTime();
+        }
+        ensureOpen();
+
+        enqueue(item);
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Inserts the first {@code count} values of {@code items}, blocking for room as needed.
+     * Taking a count lets callers reuse one scratch array for every batch.
+     */
+    public synchronized void produceAll(long[] items, int count) throws InterruptedException {
+        if (items == null) {
+            throw new IllegalArgumentException("Items cannot be null.");
+        }
+        if (count < 0 || count > items.length) {
+            throw new IllegalArgumentException("Count must be between 0 and the array length.");
+        }
+
+        int next = 0;
+        while (next < count) {
+            while (isFull() && !closed) {
+                eventListener.onProducerWaiting();
+                wait();
+            }
+            ensureOpen();
+
+            // Insert as much of the batch as currently fits, then signal once
+            while (next < count && !isFull()) {
+                enqueue(items[next++]);
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Blocks until at least one item is available, then copies up to {@code maxItems} into the
+     * start of {@code target}.
+     *
+     * @return the number of values written to {@code target}, or 0 once the buffer is closed and drained
+     */
+    public synchronized int drainTo(long[] target, int maxItems) throws InterruptedException {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null.");
+        }
+        if (maxItems <= 0 || maxItems > target.length) {
+            throw new IllegalArgumentException("Max items must be between 1 and the array length.");
+        }
+
+        if (!awaitItem()) {
+            return 0;
+        }
+
+        int drained = 0;
+        while (drained < maxItems && currentCount > 0) {
+            target[drained++] = dequeue();
+        }
+
+        // One wake-up for the whole batch of freed slots
+        notifyAll();
+        return drained;
+    }
+
+    // Boxed AbstractBuffer contract, for generic callers
+
+    @Override
+    public void produce(Long item) throws InterruptedException {
+        produce(unbox(item));
+    }
+
+    @Override
+    public synchronized Long consume() throws InterruptedException {
+        if (!awaitItem()) {
+            return null;
+        }
+        long item = dequeue();
+        notifyAll();
+        return item;
+    }
+
+    @Override
+    public boolean offer(Long item) {
+        return offer(unbox(item));
+    }
+
+    @Override
+    public boolean offer(Long item, long timeout, TimeUnit unit) throws InterruptedException {
+        return offer(unbox(item), timeout, unit);
+    }
+
+    @Override
+    public synchronized Long poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        long item = dequeue();
+        notifyAll();
+        return item;
+    }
+
+    @Override
+    public synchronized Long poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remainingNanos;
+        while (isEmpty() && !closed) {
+            if (remainingNanos <= 0) {
+                return null;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            remainingNanos = deadline - System.nanoTime();
+        }
+        if (isEmpty()) {
+            return null;
+        }
+
+        long item = dequeue();
+        notifyAll();
+        return item;
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        notifyAll();
+    }
+
+    @Override
+    public synchronized boolean isFull() {
+        return currentCount == bufferLimit;
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return currentCount == 0;
+    }
+
+    private static long unbox(Long item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+        return item;
+    }
+
+    // Caller must hold the monitor; false once the buffer is closed and drained
+    private boolean awaitItem() throws InterruptedException {
+        while (isEmpty() && !closed) {
+            eventListener.onConsumerWaiting();
+            wait();
+        }
+        return !isEmpty();
+    }
+
+    // Caller must hold the monitor and have checked there is room
+    private void enqueue(long item) {
+        writeCursor = (writeCursor + 1) % bufferLimit;
+        bufferArray[writeCursor] = item;
+        currentCount++;
+    }
+
+    // Caller must hold the monitor and have checked there is an item
+    private long dequeue() {
+        long item = bufferArray[readCursor];
+        readCursor = (readCursor + 1) % bufferLimit;
+        currentCount--;
+        return item;
+    }
+}
@@ -0,0 +1,82 @@
+package com.producerconsumer.concurrency;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Takes a fixed number of values from a {@link LongCircularBuffer} without boxing, keeping a
+ * running sum so callers can check nothing was lost or duplicated. It stops early if the buffer
+ * is closed and drained first.
+ * <p>
+ * Only start/finish/interrupt events are reported; per-item events would box every value.
+ */
+public class LongConsumer implements Runnable {
+
+    private final LongCircularBuffer sharedBuffer;
+    private final int consumptionTarget;
+    private final String consumerId;
+    private final int batchSize;
+
+    // Only written by the consumer thread
+    private volatile int consumedCount;
+    private volatile long checksum;
+
+    public LongConsumer(LongCircularBuffer buffer, int target, String id) {
+        this(buffer, target, id, 1);
+    }
+
+    // batchSize > 1 drains up to batchSize values per buffer call into a reusable scratch array
+    public LongConsumer(LongCircularBuffer buffer, int target, String id, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        this.sharedBuffer = buffer;
+        this.consumptionTarget = target;
+        this.consumerId = id;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+        BufferEventListener events = sharedBuffer.getEventListener();
+        events.onConsumerStarted(consumerId);
+
+        long[] batch = new long[batchSize];
+        int consumed = 0;
+        long sum = 0;
+        try {
+            while (consumed < consumptionTarget) {
+                if (batchSize > 1) {
+                    // Never ask for more than is still owed, so other consumers get their share
+                    int count = sharedBuffer.drainTo(batch, Math.min(batchSize, consumptionTarget - consumed));
+                    if (count == 0) {
+                        break; // Closed and drained
+                    }
+                    for (int i = 0; i < count; i++) {
+                        sum += batch[i];
+                    }
+                    consumed += count;
+                } else {
+                    sum += sharedBuffer.consumeLong();
+                    consumed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            events.onWorkerInterrupted(consumerId);
+            Thread.currentThread().interrupt();
+        } catch (NoSuchElementException e) {
+            // consumeLong's end of stream: the buffer was closed and drained
+        } finally {
+            consumedCount = consumed;
+            checksum = sum;
+        }
+        events.onConsumerFinished(consumerId);
+    }
+
+    public int getConsumedCount() {
+        return consumedCount;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+}
@@ -0,0 +1,69 @@
+package com.producerconsumer.concurrency;
+
+/**
+ * Publishes a contiguous run of sequence IDs into a {@link LongCircularBuffer} without boxing.
+ * <p>
+ * Only start/finish/interrupt events are reported; per-item events would box every value.
+ */
+public class LongProducer implements Runnable {
+
+    private final LongCircularBuffer sharedBuffer;
+    private final long firstValue;
+    private final int productionTarget;
+    private final String producerId;
+    private final int batchSize;
+
+    public LongProducer(LongCircularBuffer buffer, long firstValue, int target, String id) {
+        this(buffer, firstValue, target, id, 1);
+    }
+
+    // batchSize > 1 fills a reusable scratch array and publishes it with one produceAll call
+    public LongProducer(LongCircularBuffer buffer, long firstValue, int target, String id, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        this.sharedBuffer = buffer;
+        this.firstValue = firstValue;
+        this.productionTarget = target;
+        this.producerId = id;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+        BufferEventListener events = sharedBuffer.getEventListener();
+        events.onProducerStarted(producerId);
+
+        try {
+            if (batchSize > 1) {
+                runBatches();
+            } else {
+                for (int i = 0; i < productionTarget; i++) {
+                    sharedBuffer.produce(firstValue + i);
+                }
+            }
+        } catch (InterruptedException e) {
+            events.onWorkerInterrupted(producerId);
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException e) {
+            if (!sharedBuffer.isClosed()) {
+                throw e;
+            }
+            // The buffer was closed: the stream is over, stop early
+        }
+        events.onProducerFinished(producerId);
+    }
+
+    private void runBatches() throws InterruptedException {
+        long[] batch = new long[batchSize];
+        int produced = 0;
+        while (produced < productionTarget) {
+            int count = Math.min(batchSize, productionTarget - produced);
+            for (int i = 0; i < count; i++) {
+                batch[i] = firstValue + produced + i;
+            }
+            sharedBuffer.produceAll(batch, count);
+            produced += count;
+        }
+    }
+}
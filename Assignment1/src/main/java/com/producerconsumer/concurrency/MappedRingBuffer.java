@@ -0,0 +1,391 @@
+package com.producerconsumer.concurrency;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Off-heap ring of binary records in a memory-mapped file, for a producer and a consumer
+ * running in different JVMs on the same host.
+ * <p>
+ * Each slot holds one length-prefixed record of up to {@code maxRecordSize} bytes. The head and
+ * tail cursors live in the file header on separate cache lines and, like {@link SpscRingBuffer},
+ * each side only writes its own cursor with a release store after the slot contents. Because all
+ * state is in the file, queued records survive either side restarting: reopening the file with
+ * the same geometry picks up where the cursors left off. A consumer that dies while reading a
+ * record sees it again after the restart (the head only moves once the read is complete).
+ * <p>
+ * Exactly one process may produce and one may consume. Within a process, producing threads are
+ * serialized with each other and so are consuming threads. There is no cross-process wake-up, so
+ * a full or empty ring is polled using the {@link WaitStrategy}. {@link #force()} flushes to
+ * storage; without it, records survive a process crash but not a host crash.
+ * <p>
+ * Ending the stream and releasing a handle are separate. {@link #closeStream()}, called by the
+ * producing process, sets a closed flag in the header that ends the stream for the consuming one.
+ * It persists: a closed ring file stays closed, so a new stream needs a new file. {@link #close()}
+ * only closes this process's handle and leaves the file alone, so a consumer that closes its
+ * handle on shutdown (e.g. in try-with-resources) can reopen the file and carry on.
+ */
+public class MappedRingBuffer extends AbstractBuffer<byte[]> {
+
+    private static final int MAGIC = 0x4D524255;
+    private static final int VERSION = 1;
+
+    // Header layout; the cursors get a cache line each so the two processes don't false-share
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int RECORD_SIZE_OFFSET = 12;
+    private static final int CLOSED_OFFSET = 16; // Non-zero once closeStream() has ended the stream
+    private static final int TAIL_OFFSET = 64;
+    private static final int HEAD_OFFSET = 128;
+    private static final int DATA_OFFSET = 192;
+
+    private static final int LENGTH_PREFIX = Integer.BYTES;
+
+    // Acquire/release access to the cursors inside the mapping
+    private static final VarHandle CURSOR =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle FLAG =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final Path file;
+    private final MappedByteBuffer mapped;
+    private final int maxRecordSize;
+    private final int slotStride;
+    private final WaitStrategy waitStrategy;
+
+    private final Object producerLock = new Object();
+    private final Object consumerLock = new Object();
+
+    // Producer-local snapshot of head, and consumer-local snapshot of tail
+    private long cachedHead;
+    private long cachedTail;
+
+    /**
+     * Opens the ring in {@code file}, creating and formatting it if it is new or empty.
+     *
+     * @throws IllegalArgumentException if an existing file has a different geometry or is corrupt
+     */
+    public MappedRingBuffer(Path file, int capacity, int maxRecordSize, WaitStrategy waitStrategy) throws IOException {
+        super(capacity);
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        if (maxRecordSize <= 0) {
+            throw new IllegalArgumentException("Max record size must be positive.");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null.");
+        }
+        // Slots are 8-byte aligned so a record never straddles more cache lines than it must
+        this.slotStride = (LENGTH_PREFIX + maxRecordSize + 7) & ~7;
+        long fileSize = DATA_OFFSET + (long) capacity * slotStride;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacity times record size exceeds the 2 GB mapping limit.");
+        }
+        this.file = file;
+        this.maxRecordSize = maxRecordSize;
+        this.waitStrategy = waitStrategy;
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        }
+        mapped.order(ByteOrder.nativeOrder());
+
+        if (mapped.getInt(MAGIC_OFFSET) == MAGIC) {
+            verifyHeader(capacity);
+        } else {
+            format(capacity);
+        }
+        this.closed = (int) FLAG.getAcquire(mapped, CLOSED_OFFSET) != 0;
+        this.cachedHead = (long) CURSOR.getAcquire(mapped, HEAD_OFFSET);
+        this.cachedTail = (long) CURSOR.getAcquire(mapped, TAIL_OFFSET);
+    }
+
+    public MappedRingBuffer(Path file, int capacity, int maxRecordSize) throws IOException {
+        this(file, capacity, maxRecordSize, WaitStrategy.PARK);
+    }
+
+    @Override
+    public void produce(byte[] item) throws InterruptedException {
+        requireRecord(item);
+        synchronized (producerLock) {
+            awaitRoom();
+            publish(ByteBuffer.wrap(item));
+        }
+    }
+
+    /**
+     * Copies the remaining bytes of {@code record} straight into the mapping, without an
+     * intermediate array. The source buffer's position is not changed.
+     */
+    public void produce(ByteBuffer record) throws InterruptedException {
+        if (record == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+        requireLength(record.remaining());
+        synchronized (producerLock) {
+            awaitRoom();
+            publish(record);
+        }
+    }
+
+    @Override
+    public byte[] consume() throws InterruptedException {
+        return consumeInPlace(MappedRingBuffer::copyOf);
+    }
+
+    /**
+     * Blocks for the next record and hands {@code reader} a read-only view of it inside the
+     * mapping, with no copy. The slot is released once {@code reader} returns, so the view must
+     * not be kept.
+     *
+     * @return what {@code reader} returned, or null without calling it once the ring is closed and drained
+     */
+    public <R> R consumeInPlace(Function<ByteBuffer, R> reader) throws InterruptedException {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null.");
+        }
+        synchronized (consumerLock) {
+            while (!hasItem()) {
+                // Read the flag before re-checking, so records published before closeStream() are still taken
+                if (isClosed()) {
+                    return hasItem() ? take(reader) : null;
+                }
+                waitStrategy.await();
+            }
+            return take(reader);
+        }
+    }
+
+    @Override
+    public boolean offer(byte[] item) {
+        requireRecord(item);
+        synchronized (producerLock) {
+            requireOpen();
+            if (!hasRoom()) {
+                return false;
+            }
+            publish(ByteBuffer.wrap(item));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean offer(byte[] item, long timeout, TimeUnit unit) throws InterruptedException {
+        requireRecord(item);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (producerLock) {
+            requireOpen();
+            while (!hasRoom()) {
+                if (deadline - System.nanoTime() <= 0) {
+                    return false;
+                }
+                waitStrategy.await();
+                requireOpen();
+            }
+            publish(ByteBuffer.wrap(item));
+            return true;
+        }
+    }
+
+    @Override
+    public byte[] poll() {
+        synchronized (consumerLock) {
+            return hasItem() ? take(MappedRingBuffer::copyOf) : null;
+        }
+    }
+
+    @Override
+    public byte[] poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (consumerLock) {
+            while (!hasItem()) {
+                if (isClosed()) {
+                    return hasItem() ? take(MappedRingBuffer::copyOf) : null;
+                }
+                if (deadline - System.nanoTime() <= 0) {
+                    return null;
+                }
+                waitStrategy.await();
+            }
+            return take(MappedRingBuffer::copyOf);
+        }
+    }
+
+    /**
+     * Ends the stream for both processes by marking the ring closed in the file header. Only the
+     * producing process should call this, once it has published its last record.
+     */
+    public void closeStream() {
+        FLAG.setRelease(mapped, CLOSED_OFFSET, 1); // After every record this side published
+        super.close();
+    }
+
+    // Also true once the other process has ended the stream
+    @Override
+    public boolean isClosed() {
+        if (!closed && (int) FLAG.getAcquire(mapped, CLOSED_OFFSET) != 0) {
+            closed = true;
+        }
+        return closed;
+    }
+
+    @Override
+    public boolean isFull() {
+        return getCurrentCount() >= bufferLimit;
+    }
+
+    // A producer that polls would be a second consumer
+    @Override
+    public boolean canEvictOldest() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getCurrentCount() == 0;
+    }
+
+    // Derived from the shared cursors, so it also counts records queued by the other process
+    @Override
+    public int getCurrentCount() {
+        long consumed = (long) CURSOR.getVolatile(mapped, HEAD_OFFSET); // Head first, never negative
+        long produced = (long) CURSOR.getVolatile(mapped, TAIL_OFFSET);
+        return (int) Math.min(produced - consumed, bufferLimit);
+    }
+
+    /**
+     * Writes the mapped region back to the file, so queued records survive a host crash.
+     */
+    public void force() {
+        mapped.force();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getMaxRecordSize() {
+        return maxRecordSize;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    private void format(int capacity) {
+        mapped.putInt(VERSION_OFFSET, VERSION);
+        mapped.putInt(CAPACITY_OFFSET, capacity);
+        mapped.putInt(RECORD_SIZE_OFFSET, maxRecordSize);
+        mapped.putInt(CLOSED_OFFSET, 0);
+        CURSOR.setRelease(mapped, TAIL_OFFSET, 0L);
+        CURSOR.setRelease(mapped, HEAD_OFFSET, 0L);
+        // Magic goes in last, so a half-formatted file is never mistaken for a valid one
+        VarHandle.releaseFence();
+        mapped.putInt(MAGIC_OFFSET, MAGIC);
+    }
+
+    private void verifyHeader(int capacity) {
+        if (mapped.getInt(VERSION_OFFSET) != VERSION
+                || mapped.getInt(CAPACITY_OFFSET) != capacity
+                || mapped.getInt(RECORD_SIZE_OFFSET) != maxRecordSize) {
+            throw new IllegalArgumentException("Existing ring file " + file + " has a different layout.");
+        }
+        long head = (long) CURSOR.getAcquire(mapped, HEAD_OFFSET);
+        long tail = (long) CURSOR.getAcquire(mapped, TAIL_OFFSET);
+        if (head < 0 || tail < head || tail - head > capacity) {
+            throw new IllegalArgumentException("Existing ring file " + file + " has corrupt cursors.");
+        }
+    }
+
+    private void requireRecord(byte[] item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+        requireLength(item.length);
+    }
+
+    private void requireLength(int length) {
+        if (length > maxRecordSize) {
+            throw new IllegalArgumentException("Record of " + length + " bytes exceeds the max record size of "
+                    + maxRecordSize + ".");
+        }
+    }
+
+    private int slotOffset(long cursor) {
+        return DATA_OFFSET + (int) (cursor % bufferLimit) * slotStride;
+    }
+
+    // Caller must hold producerLock
+    private void awaitRoom() throws InterruptedException {
+        requireOpen();
+        while (!hasRoom()) {
+            waitStrategy.await();
+            requireOpen();
+        }
+    }
+
+    private void requireOpen() {
+        isClosed(); // Picks up a closeStream() from the other process
+        ensureOpen();
+    }
+
+    // Producer side: only looks at the consumer's cursor when the cached view says full
+    private boolean hasRoom() {
+        long wrapPoint = (long) CURSOR.get(mapped, TAIL_OFFSET) - bufferLimit;
+        if (cachedHead <= wrapPoint) {
+            cachedHead = (long) CURSOR.getAcquire(mapped, HEAD_OFFSET);
+        }
+        return cachedHead > wrapPoint;
+    }
+
+    // Caller must hold producerLock and have seen hasRoom() return true
+    private void publish(ByteBuffer record) {
+        long current = (long) CURSOR.get(mapped, TAIL_OFFSET);
+        int offset = slotOffset(current);
+        int length = record.remaining();
+        mapped.putInt(offset, length);
+        mapped.put(offset + LENGTH_PREFIX, record, record.position(), length);
+        CURSOR.setRelease(mapped, TAIL_OFFSET, current + 1); // Publishes the record to the consumer
+    }
+
+    // Consumer side: only looks at the producer's cursor when the cached view says empty
+    private boolean hasItem() {
+        long current = (long) CURSOR.get(mapped, HEAD_OFFSET);
+        if (current >= cachedTail) {
+            cachedTail = (long) CURSOR.getAcquire(mapped, TAIL_OFFSET);
+        }
+        return current < cachedTail;
+    }
+
+    // Caller must hold consumerLock and have seen hasItem() return true
+    private <R> R take(Function<ByteBuffer, R> reader) {
+        long current = (long) CURSOR.get(mapped, HEAD_OFFSET);
+        int offset = slotOffset(current);
+        int length = mapped.getInt(offset);
+        R result = reader.apply(mapped.slice(offset + LENGTH_PREFIX, length).asReadOnlyBuffer());
+        CURSOR.setRelease(mapped, HEAD_OFFSET, current + 1); // Hands the slot back to the producer
+        return result;
+    }
+
+    private static byte[] copyOf(ByteBuffer record) {
+        byte[] copy = new byte[record.remaining()];
+        record.get(copy);
+        return copy;
+    }
+}
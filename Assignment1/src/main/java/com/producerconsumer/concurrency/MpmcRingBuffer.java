@@ -0,0 +1,202 @@
+package com.producerconsumer.concurrency;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock-free bounded buffer for any number of producers and consumers.
+ * <p>
+ * Every slot carries its own sequence number that says whose turn it is:
+ * {@code seq == pos} means the slot is free for the producer claiming {@code pos},
+ * {@code seq == pos + 1} means it holds the item for the consumer claiming {@code pos}.
+ * Producers and consumers claim positions with a CAS on their own padded cursor,
+ * then only touch the claimed slot, so the two sides never share a lock or a counter.
+ * <p>
+ * The capacity is rounded up to the next power of two, with a minimum of two
+ * (with a single slot "published" and "free for the next lap" are the same sequence).
+ * <p>
+ * Waiters check the closed flag between waits, so {@link #close()} needs no extra signal.
+ */
+public class MpmcRingBuffer<T> extends AbstractBuffer<T> {
+
+    private static final VarHandle SLOT_SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final Object[] slots;
+    private final long[] slotSequences;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    private final Sequence head = new Sequence(0); // Next position to claim for consuming
+    private final Sequence tail = new Sequence(0); // Next position to claim for producing
+
+    public MpmcRingBuffer(int size, WaitStrategy waitStrategy) {
+        super(roundUpToPowerOfTwo(size > 0 ? size : DEFAULT_BUFFER_SIZE));
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null.");
+        }
+        this.slots = new Object[bufferLimit];
+        this.slotSequences = new long[bufferLimit];
+        this.mask = bufferLimit - 1;
+        this.waitStrategy = waitStrategy;
+
+        for (int i = 0; i < bufferLimit; i++) {
+            SLOT_SEQUENCE.setRelease(slotSequences, i, (long) i);
+        }
+    }
+
+    public MpmcRingBuffer(int size) {
+        this(size, WaitStrategy.YIELD);
+    }
+
+    public MpmcRingBuffer() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public void produce(T item) throws InterruptedException {
+        while (!offer(item)) {
+            waitStrategy.await();
+        }
+    }
+
+    @Override
+    public T consume() throws InterruptedException {
+        T item;
+        while ((item = poll()) == null) {
+            // Read the flag before polling again, so items published before close() are still taken
+            if (closed) {
+                return poll();
+            }
+            waitStrategy.await();
+        }
+        return item;
+    }
+
+    @Override
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(item)) {
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            waitStrategy.await();
+        }
+        return true;
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        T item;
+        while ((item = poll()) == null) {
+            if (closed) {
+                return poll();
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return null;
+            }
+            waitStrategy.await();
+        }
+        return item;
+    }
+
+    /**
+     * Claims the next free slot and publishes the item into it.
+     * Returns false without waiting if the buffer is full; throws if it is closed.
+     */
+    @Override
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+        ensureOpen();
+        long position = tail.get();
+        int index;
+
+        while (true) {
+            index = (int) position & mask;
+            long slotSequence = (long) SLOT_SEQUENCE.getAcquire(slotSequences, index);
+            long difference = slotSequence - position;
+
+            if (difference == 0) {
+                // Slot is free for this position; race other producers for it
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // Slot still holds an item from the previous lap: buffer is full
+                return false;
+            } else {
+                // Another producer already took this position
+                position = tail.get();
+            }
+        }
+
+        slots[index] = item;
+        SLOT_SEQUENCE.setRelease(slotSequences, index, position + 1); // Hand the slot to consumers
+        return true;
+    }
+
+    /**
+     * Claims the next published slot and takes its item.
+     * Returns null without waiting if the buffer is empty.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long position = head.get();
+        int index;
+
+        while (true) {
+            index = (int) position & mask;
+            long slotSequence = (long) SLOT_SEQUENCE.getAcquire(slotSequences, index);
+            long difference = slotSequence - (position + 1);
+
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // Producer has not published this position yet: buffer is empty
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+
+        T item = (T) slots[index];
+        slots[index] = null; // Clear reference for GC
+        // Free the slot for the producer that will claim it on the next lap
+        SLOT_SEQUENCE.setRelease(slotSequences, index, position + bufferLimit);
+        return item;
+    }
+
+    @Override
+    public boolean isFull() {
+        return getCurrentCount() >= bufferLimit;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getCurrentCount() == 0;
+    }
+
+    // Approximate under contention: claimed positions may not be published yet
+    @Override
+    public int getCurrentCount() {
+        long consumed = head.get();
+        long produced = tail.get();
+        return (int) Math.max(0, Math.min(produced - consumed, bufferLimit));
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    static int roundUpToPowerOfTwo(int value) {
+        return value <= 2 ? 2 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,21 @@
+package com.producerconsumer.concurrency;
+
+/**
+ * What a {@link TaskProducer} does when the buffer has no room for its next item.
+ */
+public enum OverflowPolicy {
+
+    // Wait for room indefinitely (classic backpressure)
+    BLOCK,
+
+    // Discard the item that did not fit
+    DROP_NEWEST,
+
+    // Evict the oldest queued item to make room for the new one; only for buffers whose
+    // canEvictOldest() is true (FIFO, and safe for the producer to poll)
+    DROP_OLDEST,
+
+    // Process the item on the producer's own thread instead of queueing it (see the
+    // TaskProducer constructor that takes an inline handler)
+    CALLER_RUNS
+}
@@ -0,0 +1,369 @@
+package com.producerconsumer.concurrency;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Multi-stage processing over one shared ring of pre-allocated events, instead of a queue per stage.
+ * <p>
+ * Producers claim, fill and publish events as in {@link EventSlotBuffer}. Each {@link Stage} keeps
+ * its own padded sequence (how far it has processed) and only reads up to the minimum of the
+ * sequences it depends on, so an event moves from stage to stage without being copied or
+ * re-queued. Stages that depend on the same upstream stage all see every event (fan-out); a
+ * stage that depends on several stages waits for all of them (fan-in). A stage can also run on
+ * several workers that split its events between them.
+ * <p>
+ * Producers are gated by the slowest final stage, so a slot is only reused once every stage has
+ * finished with it.
+ * <pre>{@code
+ * Pipeline.Builder<Order> builder = Pipeline.builder(1024, Order::new);
+ * Pipeline.Stage parse   = builder.stage("parse", parser);
+ * Pipeline.Stage enrich  = builder.stage("enrich", 4, enricher, parse);
+ * Pipeline.Stage audit   = builder.stage("audit", auditor, parse);
+ * builder.stage("persist", writer, enrich, audit);
+ * Pipeline<Order> pipeline = builder.build();
+ * }</pre>
+ */
+public final class Pipeline<E> {
+
+    /**
+     * Processes one event in place. Runtime exceptions are counted on the stage and the
+     * event is passed on regardless, so one bad event cannot stall the pipeline.
+     */
+    @FunctionalInterface
+    public interface Handler<E> {
+        void onEvent(E event, long sequence);
+    }
+
+    private static final VarHandle PUBLISHED = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final Object[] events;
+    // Per slot, the sequence last published into it; lets stages see out-of-order publishes
+    private final long[] published;
+    private final int capacity;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    private final Sequence claimed = new Sequence(0); // Next sequence a producer will claim
+    private final List<Stage> stages;
+    private final Sequence[] gatingSequences;
+
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean running;
+
+    private Pipeline(Builder<E> builder) {
+        this.capacity = MpmcRingBuffer.roundUpToPowerOfTwo(builder.size);
+        this.events = new Object[capacity];
+        this.published = new long[capacity];
+        this.mask = capacity - 1;
+        this.waitStrategy = builder.waitStrategy;
+
+        for (int i = 0; i < capacity; i++) {
+            E event = builder.factory.get();
+            if (event == null) {
+                throw new IllegalArgumentException("Event factory returned null.");
+            }
+            events[i] = event;
+            PUBLISHED.setRelease(published, i, -1L);
+        }
+
+        this.stages = Collections.unmodifiableList(new ArrayList<>(builder.stages));
+
+        // Only stages nothing depends on gate the producers; everything upstream is at least as far
+        Set<Stage> upstream = new HashSet<>();
+        for (Stage stage : stages) {
+            Collections.addAll(upstream, stage.upstream);
+        }
+        List<Sequence> gating = new ArrayList<>();
+        for (Stage stage : stages) {
+            if (stage.pipeline != null) {
+                throw new IllegalStateException("Stage '" + stage.name + "' is already part of a pipeline.");
+            }
+            stage.pipeline = this;
+            if (!upstream.contains(stage)) {
+                Collections.addAll(gating, stage.workerSequences);
+            }
+        }
+        this.gatingSequences = gating.toArray(new Sequence[0]);
+    }
+
+    public static <E> Builder<E> builder(int size, Supplier<? extends E> factory) {
+        return new Builder<>(size, factory);
+    }
+
+    // Lifecycle
+
+    /**
+     * Starts one thread per stage worker, e.g. with {@link SimulationRunner#threadFactory}.
+     */
+    public synchronized void start(ThreadFactory threadFactory) {
+        if (running || !workerThreads.isEmpty()) {
+            throw new IllegalStateException("Pipeline has already been started.");
+        }
+        running = true;
+        for (Stage stage : stages) {
+            for (int worker = 0; worker < stage.workerSequences.length; worker++) {
+                Thread thread = threadFactory.newThread(stage.worker(worker));
+                workerThreads.add(thread);
+            }
+        }
+        workerThreads.forEach(Thread::start);
+    }
+
+    /**
+     * Waits until every stage has processed everything published so far, then stops the workers.
+     * Producers must have stopped publishing before this is called.
+     *
+     * @return true if the pipeline drained and stopped within the timeout; otherwise the
+     * workers are interrupted and stopped anyway.
+     */
+    public synchronized boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long target = claimed.get();
+        boolean drained = true;
+        while (minimumSequence(gatingSequences, target) < target) {
+            if (deadline - System.nanoTime() <= 0) {
+                drained = false;
+                break;
+            }
+            waitStrategy.await();
+        }
+
+        running = false;
+        for (Thread thread : workerThreads) {
+            long remainingMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            thread.join(remainingMs);
+            if (thread.isAlive()) {
+                drained = false;
+                thread.interrupt();
+            }
+        }
+        return drained;
+    }
+
+    // Producer side
+
+    /**
+     * Claims the next sequence, waiting while the slowest final stage is a full ring behind.
+     */
+    public long claim() throws InterruptedException {
+        while (true) {
+            long next = claimed.get();
+            if (next - capacity >= minimumSequence(gatingSequences, next)) {
+                waitStrategy.await(); // Ring is full
+            } else if (claimed.compareAndSet(next, next + 1)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Makes a claimed, filled event visible to the first stages.
+     */
+    public void publish(long sequence) {
+        PUBLISHED.setRelease(published, (int) sequence & mask, sequence);
+    }
+
+    /**
+     * Claims a slot, lets {@code writer} fill its event in place and publishes it.
+     */
+    public void produce(Consumer<? super E> writer) throws InterruptedException {
+        long sequence = claim();
+        try {
+            writer.accept(get(sequence));
+        } finally {
+            // Publish even if the writer failed, so the stages cannot stall on this slot
+            publish(sequence);
+        }
+    }
+
+    /**
+     * The event for {@code sequence}; producers may only touch it between claim and publish.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) events[(int) sequence & mask];
+    }
+
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    public int getBufferLimit() {
+        return capacity;
+    }
+
+    // First published sequence that is not yet visible, scanning from 'next' (exclusive upper bound)
+    private long highestPublished(long next, long limit) {
+        long sequence = next;
+        while (sequence < limit && (long) PUBLISHED.getAcquire(published, (int) sequence & mask) == sequence) {
+            sequence++;
+        }
+        return sequence;
+    }
+
+    private static long minimumSequence(Sequence[] sequences, long ceiling) {
+        long minimum = ceiling;
+        for (Sequence sequence : sequences) {
+            minimum = Math.min(minimum, sequence.getAcquire());
+        }
+        return minimum;
+    }
+
+    /**
+     * One processing step. Its position in the graph is fixed by the stages passed as
+     * {@code upstream} when it was added to the {@link Builder}.
+     */
+    public static final class Stage {
+
+        private final String name;
+        private final Handler<Object> handler;
+        private final Stage[] upstream;
+        private final Sequence[] workerSequences;
+        // Everything this stage may read up to; empty for stages fed straight by the producers
+        private final Sequence[] barrier;
+        private final LongAdder failures = new LongAdder();
+
+        private Pipeline<?> pipeline;
+
+        @SuppressWarnings("unchecked")
+        private Stage(String name, Handler<?> handler, int workers, Stage[] upstream) {
+            this.name = name;
+            this.handler = (Handler<Object>) handler;
+            this.upstream = upstream;
+            this.workerSequences = new Sequence[workers];
+            for (int i = 0; i < workers; i++) {
+                workerSequences[i] = new Sequence(0);
+            }
+            List<Sequence> dependencies = new ArrayList<>();
+            for (Stage stage : upstream) {
+                Collections.addAll(dependencies, stage.workerSequences);
+            }
+            this.barrier = dependencies.toArray(new Sequence[0]);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getWorkerCount() {
+            return workerSequences.length;
+        }
+
+        /**
+         * Every sequence below this has been processed by all of the stage's workers.
+         */
+        public long getProcessedSequence() {
+            return minimumSequence(workerSequences, Long.MAX_VALUE);
+        }
+
+        public long getFailedCount() {
+            return failures.sum();
+        }
+
+        // Worker k of n handles the sequences where sequence % n == k and steps over the rest
+        private Runnable worker(int index) {
+            Pipeline<?> owner = pipeline;
+            Sequence own = workerSequences[index];
+            int workers = workerSequences.length;
+
+            return () -> {
+                long next = own.getPlain();
+                while (owner.running) {
+                    long available = barrier.length == 0
+                            ? owner.highestPublished(next, owner.claimed.get())
+                            : minimumSequence(barrier, Long.MAX_VALUE);
+                    if (available <= next) {
+                        try {
+                            owner.waitStrategy.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        continue;
+                    }
+
+                    for (long sequence = next; sequence < available; sequence++) {
+                        if (workers == 1 || sequence % workers == index) {
+                            try {
+                                handler.onEvent(owner.get(sequence), sequence);
+                            } catch (RuntimeException e) {
+                                failures.increment();
+                            }
+                        }
+                    }
+                    own.setRelease(available); // Releases the whole batch to downstream stages
+                    next = available;
+                }
+            };
+        }
+    }
+
+    public static final class Builder<E> {
+
+        private final int size;
+        private final Supplier<? extends E> factory;
+        private final List<Stage> stages = new ArrayList<>();
+        private WaitStrategy waitStrategy = WaitStrategy.YIELD;
+
+        private Builder(int size, Supplier<? extends E> factory) {
+            if (factory == null) {
+                throw new IllegalArgumentException("Event factory cannot be null.");
+            }
+            this.size = size > 0 ? size : AbstractBuffer.DEFAULT_BUFFER_SIZE;
+            this.factory = factory;
+        }
+
+        public Builder<E> waitStrategy(WaitStrategy waitStrategy) {
+            if (waitStrategy == null) {
+                throw new IllegalArgumentException("Wait strategy cannot be null.");
+            }
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        /**
+         * Adds a single-worker stage after {@code upstream}, or straight after the producers if none.
+         */
+        public Stage stage(String name, Handler<? super E> handler, Stage... upstream) {
+            return stage(name, 1, handler, upstream);
+        }
+
+        /**
+         * Adds a stage whose events are split across {@code workers} threads.
+         */
+        public Stage stage(String name, int workers, Handler<? super E> handler, Stage... upstream) {
+            if (name == null || handler == null) {
+                throw new IllegalArgumentException("Stage name and handler cannot be null.");
+            }
+            if (workers <= 0) {
+                throw new IllegalArgumentException("Worker count must be positive.");
+            }
+            for (Stage stage : upstream) {
+                if (stage == null || !stages.contains(stage)) {
+                    throw new IllegalArgumentException("Upstream stages must be added to this builder first.");
+                }
+            }
+            Stage stage = new Stage(name, handler, workers, upstream.clone());
+            stages.add(stage);
+            return stage;
+        }
+
+        public Pipeline<E> build() {
+            if (stages.isEmpty()) {
+                throw new IllegalStateException("A pipeline needs at least one stage.");
+            }
+            return new Pipeline<>(this);
+        }
+    }
+}
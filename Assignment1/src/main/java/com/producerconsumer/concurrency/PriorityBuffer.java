@@ -0,0 +1,203 @@
+package com.producerconsumer.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded buffer with a fixed number of priority lanes, each a FIFO ring of its own, sharing one
+ * total capacity. Lane 0 is the most urgent.
+ * <p>
+ * Dequeuing is weighted-fair rather than strict: among the non-empty lanes, each lane gets a share
+ * of removals proportional to its weight (smooth weighted round robin), so urgent items overtake a
+ * bulk backlog without the bulk lane ever starving. Items are FIFO within a lane.
+ * <p>
+ * The lane comes from {@link #produce(Object, int)} / {@link #offer(Object, int, long, TimeUnit)}
+ * when the producer tags it, otherwise from the classifier (by default the lowest-priority lane).
+ */
+public class PriorityBuffer<T> extends LockingBuffer<T> {
+
+    public static final int DEFAULT_LANES = 3;
+
+    private final List<ArrayDeque<T>> lanes;
+    private final int[] weights;
+    // Smooth weighted round robin state: credit each lane has built up
+    private final int[] credits;
+    private final ToIntFunction<? super T> classifier;
+
+    public PriorityBuffer(int size, int[] weights, ToIntFunction<? super T> classifier, boolean fair) {
+        super(size > 0 ? size : DEFAULT_BUFFER_SIZE, fair);
+        if (weights == null || weights.length == 0) {
+            throw new IllegalArgumentException("At least one lane weight is required.");
+        }
+        for (int weight : weights) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Lane weights must be positive.");
+            }
+        }
+        if (classifier == null) {
+            throw new IllegalArgumentException("Classifier cannot be null.");
+        }
+        this.weights = weights.clone();
+        this.credits = new int[weights.length];
+        this.classifier = classifier;
+        this.lanes = new ArrayList<>(weights.length);
+        for (int i = 0; i < weights.length; i++) {
+            lanes.add(new ArrayDeque<>());
+        }
+    }
+
+    // Untagged items go to the lowest-priority lane
+    public PriorityBuffer(int size, int[] weights) {
+        this(size, weights, item -> weights.length - 1, false);
+    }
+
+    // Each lane gets twice the share of the one below it
+    public PriorityBuffer(int size, int laneCount) {
+        this(size, defaultWeights(laneCount));
+    }
+
+    public PriorityBuffer() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_LANES);
+    }
+
+    /**
+     * Inserts {@code item} into lane {@code priority} (0 is most urgent), waiting for room.
+     */
+    public void produce(T item, int priority) throws InterruptedException {
+        requireItem(item);
+        int lane = checkedLane(priority);
+
+        lock.lockInterruptibly();
+        try {
+            awaitNotFull();
+            insertInto(lane, item);
+            signalAfterProduce(1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean offer(T item, int priority) {
+        requireItem(item);
+        int lane = checkedLane(priority);
+
+        lock.lock();
+        try {
+            ensureOpen();
+            if (currentCount >= capacity()) {
+                return false;
+            }
+            insertInto(lane, item);
+            signalAfterProduce(1);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean offer(T item, int priority, long timeout, TimeUnit unit) throws InterruptedException {
+        requireItem(item);
+        int lane = checkedLane(priority);
+
+        lock.lockInterruptibly();
+        try {
+            if (!awaitNotFull(unit.toNanos(timeout))) {
+                return false;
+            }
+            insertInto(lane, item);
+            signalAfterProduce(1);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // poll() follows the weighted lane schedule, not insertion order
+    @Override
+    public boolean canEvictOldest() {
+        return false;
+    }
+
+    public int getLaneCount() {
+        return lanes.size();
+    }
+
+    // Items currently queued in one lane
+    public int getLaneSize(int priority) {
+        int lane = checkedLane(priority);
+        lock.lock();
+        try {
+            return lanes.get(lane).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected int capacity() {
+        return bufferLimit;
+    }
+
+    @Override
+    protected void enqueue(T item) {
+        lanes.get(checkedLane(classifier.applyAsInt(item))).addLast(item);
+    }
+
+    @Override
+    protected T dequeue() {
+        // Every non-empty lane earns its weight; the richest lane is served and pays back the round's total
+        int chosen = -1;
+        int roundWeight = 0;
+        for (int i = 0; i < lanes.size(); i++) {
+            if (lanes.get(i).isEmpty()) {
+                continue;
+            }
+            credits[i] += weights[i];
+            roundWeight += weights[i];
+            if (chosen < 0 || credits[i] > credits[chosen]) {
+                chosen = i;
+            }
+        }
+        credits[chosen] -= roundWeight;
+        T item = lanes.get(chosen).pollFirst();
+
+        // An idle lane must not bank credit (or debt) for when it wakes up again
+        if (lanes.get(chosen).isEmpty()) {
+            credits[chosen] = 0;
+        }
+        return item;
+    }
+
+    // Caller must hold the lock and have waited for room
+    private void insertInto(int lane, T item) {
+        lanes.get(lane).addLast(item);
+        currentCount++;
+    }
+
+    private int checkedLane(int priority) {
+        if (priority < 0 || priority >= lanes.size()) {
+            throw new IllegalArgumentException("Priority must be between 0 and " + (lanes.size() - 1) + ".");
+        }
+        return priority;
+    }
+
+    private static void requireItem(Object item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+    }
+
+    private static int[] defaultWeights(int laneCount) {
+        if (laneCount <= 0 || laneCount > 16) {
+            throw new IllegalArgumentException("Lane count must be between 1 and 16.");
+        }
+        int[] weights = new int[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            weights[i] = 1 << (laneCount - 1 - i);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,147 @@
+package com.producerconsumer.concurrency;
+
+/**
+ * Elastic buffer that grows by linking fixed-size chunks instead of reallocating one array.
+ * <p>
+ * Unlike {@link ElasticBuffer}, growing never copies the items already queued: when the tail
+ * chunk is full a new chunk is linked after it in O(1). Chunks drained by consumers are
+ * unlinked and kept in a small pool for the next burst; anything beyond the pool is left to
+ * the GC, so capacity shrinks on its own once load drops.
+ * <p>
+ * {@link #getBufferLimit()} reports the slots currently linked in; producers only block once
+ * {@code maxCapacity} items are queued. Blocking uses the split-condition {@link LockingBuffer}.
+ */
+public class SegmentedElasticBuffer<T> extends LockingBuffer<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64;
+    public static final int DEFAULT_POOLED_CHUNKS = 4;
+
+    private static final class Chunk {
+        final Object[] items;
+        Chunk next;
+
+        Chunk(int size) {
+            this.items = new Object[size];
+        }
+    }
+
+    private final int chunkSize;
+    private final int maxCapacity;
+    private final int maxPooledChunks;
+
+    private Chunk headChunk;  // Chunk holding the oldest item
+    private int headIndex;    // Next slot to read in headChunk
+    private Chunk tailChunk;  // Chunk receiving new items
+    private int tailIndex;    // Next slot to write in tailChunk
+    private int linkedChunks;
+
+    // Recycled chunks, singly linked through Chunk.next
+    private Chunk pool;
+    private int pooledChunks;
+
+    public SegmentedElasticBuffer(int chunkSize, int maxCapacity, int maxPooledChunks, boolean fair) {
+        super(chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE, fair);
+        if (maxCapacity < bufferLimit) {
+            throw new IllegalArgumentException("Max capacity cannot be smaller than one chunk.");
+        }
+        if (maxPooledChunks < 0) {
+            throw new IllegalArgumentException("Pool size cannot be negative.");
+        }
+        this.chunkSize = bufferLimit;
+        this.maxCapacity = maxCapacity;
+        this.maxPooledChunks = maxPooledChunks;
+        this.headChunk = new Chunk(this.chunkSize);
+        this.tailChunk = headChunk;
+        this.linkedChunks = 1;
+    }
+
+    public SegmentedElasticBuffer(int chunkSize, int maxCapacity) {
+        this(chunkSize, maxCapacity, DEFAULT_POOLED_CHUNKS, false);
+    }
+
+    public SegmentedElasticBuffer() {
+        this(DEFAULT_CHUNK_SIZE, ElasticBuffer.DEFAULT_MAX_CAPACITY);
+    }
+
+    @Override
+    protected int capacity() {
+        return maxCapacity;
+    }
+
+    @Override
+    protected void enqueue(T item) {
+        if (tailIndex == chunkSize) {
+            // Tail chunk is full: link another one, existing items stay where they are
+            Chunk chunk = obtainChunk();
+            tailChunk.next = chunk;
+            tailChunk = chunk;
+            tailIndex = 0;
+            linkedChunks++;
+            bufferLimit = linkedChunks * chunkSize;
+            eventListener.onResize(bufferLimit - chunkSize, bufferLimit);
+        }
+        tailChunk.items[tailIndex++] = item;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected T dequeue() {
+        T item = (T) headChunk.items[headIndex];
+        headChunk.items[headIndex++] = null; // Clear reference for GC
+
+        if (headChunk == tailChunk) {
+            if (headIndex == tailIndex) {
+                // Drained the only chunk: rewind instead of unlinking it
+                headIndex = 0;
+                tailIndex = 0;
+            }
+        } else if (headIndex == chunkSize) {
+            Chunk drained = headChunk;
+            headChunk = drained.next;
+            headIndex = 0;
+            linkedChunks--;
+            bufferLimit = linkedChunks * chunkSize;
+            eventListener.onResize(bufferLimit + chunkSize, bufferLimit);
+            recycleChunk(drained);
+        }
+        return item;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    public int getPooledChunks() {
+        lock.lock();
+        try {
+            return pooledChunks;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Chunk obtainChunk() {
+        if (pool == null) {
+            return new Chunk(chunkSize);
+        }
+        Chunk chunk = pool;
+        pool = chunk.next;
+        chunk.next = null;
+        pooledChunks--;
+        return chunk;
+    }
+
+    // Drained chunks are already all-null, so they can go straight back into service
+    private void recycleChunk(Chunk chunk) {
+        chunk.next = null;
+        if (pooledChunks < maxPooledChunks) {
+            chunk.next = pool;
+            pool = chunk;
+            pooledChunks++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.producerconsumer.concurrency;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Left-hand cache line padding, kept in a superclass so the JVM cannot reorder it around the value
+abstract class SequenceLhsPadding {
+    protected long p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SequenceValue extends SequenceLhsPadding {
+    protected volatile long value;
+}
+
+// Right-hand padding, so neighbouring objects never share a cache line with the value
+abstract class SequenceRhsPadding extends SequenceValue {
+    protected long p11, p12, p13, p14, p15, p16, p17;
+}
+
+/**
+ * A padded, monotonically increasing cursor used by the lock-free buffers.
+ * Each instance owns its cache line, so a producer cursor and a consumer
+ * cursor can be updated by different cores without false sharing.
+ */
+final class Sequence extends SequenceRhsPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    // Full volatile read
+    long get() {
+        return value;
+    }
+
+    // Plain read; only safe for the single thread that owns writes to this sequence
+    long getPlain() {
+        return (long) VALUE.get(this);
+    }
+
+    long getAcquire() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    // Plain write; only for values that a single thread owns and no other thread reads
+    void setPlain(long newValue) {
+        VALUE.set(this, newValue);
+    }
+
+    // Ordered write: publishes everything written before it without a full fence
+    void setRelease(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+}
@@ -0,0 +1,396 @@
+package com.producerconsumer.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded buffer split into independently locked shards (one per core by default), so many
+ * producers and consumers don't all contend on one lock and one pair of cursors.
+ * <p>
+ * Every thread gets a home shard the first time it touches the buffer. Consumers take from
+ * their home shard first and steal from the other shards before blocking. There is no global
+ * ordering. Two modes:
+ * <ul>
+ *   <li>default: producers spread items round robin starting from their home shard, and
+ *       thieves steal LIFO, taking the newest item from the tail of other shards;</li>
+ *   <li>{@code perProducerFifo}: each producer only ever uses its home shard and thieves take
+ *       from the head, so items from one producer leave in the order they were produced.</li>
+ * </ul>
+ * Threads only touch the shared lock when they actually have to block; producers and consumers
+ * check a volatile waiter count after each operation and skip signalling when nobody waits.
+ * {@link #close()} takes the lock and wakes every waiter.
+ */
+public class ShardedBuffer<T> extends AbstractBuffer<T> {
+
+    private final Shard[] shards;
+    private final boolean perProducerFifo;
+
+    // Assigns home shards round robin as threads first arrive
+    private final AtomicInteger nextHome = new AtomicInteger();
+    // Per thread: [0] home shard, [1] round-robin cursor for the next produce
+    private final ThreadLocal<int[]> threadState;
+
+    // Only used to block when every reachable shard is full or empty
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+    // Written under lock, read without it to decide whether a signal is needed
+    private volatile int waitingProducers;
+    private volatile int waitingConsumers;
+
+    public ShardedBuffer(int shardCount, int shardCapacity, boolean perProducerFifo) {
+        super(checkedLimit(shardCount, shardCapacity));
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(shardCapacity);
+        }
+        this.perProducerFifo = perProducerFifo;
+        this.threadState = ThreadLocal.withInitial(() -> {
+            int home = Math.floorMod(nextHome.getAndIncrement(), shards.length);
+            return new int[]{home, home};
+        });
+    }
+
+    public ShardedBuffer(int shardCount, int shardCapacity) {
+        this(shardCount, shardCapacity, false);
+    }
+
+    // One shard per core, splitting the requested total capacity between them
+    public ShardedBuffer(int size) {
+        this(defaultShardCount(size), ceilDiv(size > 0 ? size : DEFAULT_BUFFER_SIZE, defaultShardCount(size)));
+    }
+
+    public ShardedBuffer() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public void produce(T item) throws InterruptedException {
+        requireItem(item);
+        if (insertIfOpen(item)) {
+            signalConsumer();
+            return;
+        }
+
+        lock.lockInterruptibly();
+        waitingProducers++;
+        try {
+            // Re-check after registering as a waiter, so a concurrent removal can't be missed
+            while (!insertIfOpen(item)) {
+                eventListener.onProducerWaiting();
+                awaitOrPassOn(notFull);
+            }
+        } finally {
+            waitingProducers--;
+            lock.unlock();
+        }
+        signalConsumer();
+    }
+
+    @Override
+    public T consume() throws InterruptedException {
+        T item = tryRemove();
+        if (item != null) {
+            signalProducer();
+            return item;
+        }
+
+        lock.lockInterruptibly();
+        waitingConsumers++;
+        try {
+            while ((item = tryRemove()) == null) {
+                // Closed and drained: one last look catches items inserted before close()
+                if (closed) {
+                    item = tryRemove();
+                    break;
+                }
+                eventListener.onConsumerWaiting();
+                awaitOrPassOn(notEmpty);
+            }
+        } finally {
+            waitingConsumers--;
+            lock.unlock();
+        }
+        if (item != null) {
+            signalProducer();
+        }
+        return item;
+    }
+
+    @Override
+    public boolean offer(T item) {
+        requireItem(item);
+        if (!insertIfOpen(item)) {
+            return false;
+        }
+        signalConsumer();
+        return true;
+    }
+
+    @Override
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        requireItem(item);
+        if (insertIfOpen(item)) {
+            signalConsumer();
+            return true;
+        }
+
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        waitingProducers++;
+        try {
+            while (!insertIfOpen(item)) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = awaitNanosOrPassOn(notFull, remainingNanos);
+            }
+        } finally {
+            waitingProducers--;
+            lock.unlock();
+        }
+        signalConsumer();
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        T item = tryRemove();
+        if (item != null) {
+            signalProducer();
+        }
+        return item;
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        T item = tryRemove();
+        if (item != null) {
+            signalProducer();
+            return item;
+        }
+
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        waitingConsumers++;
+        try {
+            while ((item = tryRemove()) == null) {
+                if (closed) {
+                    item = tryRemove();
+                    break;
+                }
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                remainingNanos = awaitNanosOrPassOn(notEmpty, remainingNanos);
+            }
+        } finally {
+            waitingConsumers--;
+            lock.unlock();
+        }
+        if (item != null) {
+            signalProducer();
+        }
+        return item;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            super.close();
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isFull() {
+        return getCurrentCount() >= bufferLimit;
+    }
+
+    // There is no global order, so poll() takes from whichever shard the caller reaches first
+    @Override
+    public boolean canEvictOldest() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getCurrentCount() == 0;
+    }
+
+    // Summed from the shards; a shared counter would be exactly the hotspot sharding removes
+    @Override
+    public int getCurrentCount() {
+        int total = 0;
+        for (Shard shard : shards) {
+            total += shard.count;
+        }
+        return total;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public boolean isPerProducerFifo() {
+        return perProducerFifo;
+    }
+
+    // Checked before every attempt, so a producer woken by close() fails instead of inserting
+    private boolean insertIfOpen(T item) {
+        ensureOpen();
+        return tryInsert(item);
+    }
+
+    private boolean tryInsert(T item) {
+        int[] state = threadState.get();
+        if (perProducerFifo) {
+            return shards[state[0]].offerLast(item);
+        }
+        int start = state[1];
+        for (int i = 0; i < shards.length; i++) {
+            int index = (start + i) % shards.length;
+            if (shards[index].offerLast(item)) {
+                state[1] = (index + 1) % shards.length;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T tryRemove() {
+        int home = threadState.get()[0];
+        Object item = shards[home].pollFirst();
+        // Steal: FIFO mode takes the oldest item to keep per-producer order, otherwise the newest
+        for (int i = 1; item == null && i < shards.length; i++) {
+            Shard victim = shards[(home + i) % shards.length];
+            item = perProducerFifo ? victim.pollFirst() : victim.pollLast();
+        }
+        return (T) item;
+    }
+
+    private void signalConsumer() {
+        if (waitingConsumers > 0) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void signalProducer() {
+        if (waitingProducers > 0) {
+            lock.lock();
+            try {
+                // A pinned producer can only use its own shard, so any single one may be the wrong one
+                if (perProducerFifo) {
+                    notFull.signalAll();
+                } else {
+                    notFull.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // An interrupted waiter may have consumed a signal meant for someone; hand it on
+    private static void awaitOrPassOn(Condition condition) throws InterruptedException {
+        try {
+            condition.await();
+        } catch (InterruptedException e) {
+            condition.signal();
+            throw e;
+        }
+    }
+
+    private static long awaitNanosOrPassOn(Condition condition, long nanos) throws InterruptedException {
+        try {
+            return condition.awaitNanos(nanos);
+        } catch (InterruptedException e) {
+            condition.signal();
+            throw e;
+        }
+    }
+
+    private static void requireItem(Object item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+    }
+
+    private static int defaultShardCount(int size) {
+        return Math.min(Runtime.getRuntime().availableProcessors(), size > 0 ? size : DEFAULT_BUFFER_SIZE);
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private static int checkedLimit(int shardCount, int shardCapacity) {
+        if (shardCount <= 0 || shardCapacity <= 0) {
+            throw new IllegalArgumentException("Shard count and shard capacity must be positive.");
+        }
+        long limit = (long) shardCount * shardCapacity;
+        if (limit > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total capacity is too large.");
+        }
+        return (int) limit;
+    }
+
+    /**
+     * A small fixed-size deque guarded by its own monitor. Removing from the head is the
+     * normal path; removing from the tail is only used by thieves.
+     */
+    private static final class Shard {
+
+        private final Object[] items;
+        private int head;
+        // Written under the monitor, read without it for size estimates
+        private volatile int count;
+
+        Shard(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        synchronized boolean offerLast(Object item) {
+            if (count == items.length) {
+                return false;
+            }
+            items[(head + count) % items.length] = item;
+            count++;
+            return true;
+        }
+
+        synchronized Object pollFirst() {
+            if (count == 0) {
+                return null;
+            }
+            Object item = items[head];
+            items[head] = null; // Clear reference for GC
+            head = (head + 1) % items.length;
+            count--;
+            return item;
+        }
+
+        synchronized Object pollLast() {
+            if (count == 0) {
+                return null;
+            }
+            int tail = (head + count - 1) % items.length;
+            Object item = items[tail];
+            items[tail] = null;
+            count--;
+            return item;
+        }
+    }
+}
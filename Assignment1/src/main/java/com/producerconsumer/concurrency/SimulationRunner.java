@@ -0,0 +1,95 @@
+package com.producerconsumer.concurrency;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts producer/consumer workers on either platform threads or virtual threads and waits for them.
+ * <p>
+ * Virtual threads make it cheap to model tens of thousands of I/O-bound producers, but a virtual
+ * thread blocked inside {@code synchronized}/{@code wait()} pins its carrier thread. Pair
+ * {@link ThreadMode#VIRTUAL} with a buffer that blocks through {@code java.util.concurrent.locks}
+ * ({@link ConditionBuffer}, {@link SegmentedElasticBuffer}) or one that parks
+ * ({@link SpscRingBuffer}/{@link MpmcRingBuffer} with {@link WaitStrategy#PARK}).
+ * <p>
+ * The project compiles for Java 17, so virtual threads are looked up reflectively and are only
+ * available when running on Java 21 or newer.
+ */
+public final class SimulationRunner {
+
+    public enum ThreadMode { PLATFORM, VIRTUAL }
+
+    // Thread.ofVirtual().name(prefix, 0).factory(); all null before Java 21
+    private static final Method OF_VIRTUAL = findMethod("java.lang.Thread", "ofVirtual");
+    private static final Method BUILDER_NAME = findMethod("java.lang.Thread$Builder", "name", String.class, long.class);
+    private static final Method BUILDER_FACTORY = findMethod("java.lang.Thread$Builder", "factory");
+
+    private SimulationRunner() {
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return OF_VIRTUAL != null && BUILDER_NAME != null && BUILDER_FACTORY != null;
+    }
+
+    public static ThreadFactory threadFactory(ThreadMode mode, String namePrefix) {
+        if (mode == ThreadMode.PLATFORM) {
+            AtomicInteger counter = new AtomicInteger();
+            return task -> new Thread(task, namePrefix + counter.getAndIncrement());
+        }
+        if (!isVirtualThreadSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer.");
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create a virtual thread factory.", e);
+        }
+    }
+
+    /**
+     * Runs every worker on its own thread of the given mode and waits for all of them.
+     *
+     * @return true if every worker finished within the timeout.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public static boolean runAll(ThreadMode mode, List<? extends Runnable> workers, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        ThreadFactory factory = threadFactory(mode, mode == ThreadMode.VIRTUAL ? "vworker-" : "worker-");
+        List<Thread> threads = new ArrayList<>(workers.size());
+        for (Runnable worker : workers) {
+            threads.add(factory.newThread(worker));
+        }
+        threads.forEach(Thread::start);
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Thread t : threads) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                break;
+            }
+            t.join(remainingMs);
+        }
+
+        boolean finished = true;
+        for (Thread t : threads) {
+            if (t.isAlive()) {
+                finished = false;
+                t.interrupt(); // Don't leak blocked workers past the timeout
+            }
+        }
+        return finished;
+    }
+
+    private static Method findMethod(String className, String methodName, Class<?>... parameterTypes) {
+        try {
+            return Class.forName(className).getMethod(methodName, parameterTypes);
+        } catch (ReflectiveOperationException e) {
+            return null; // Running on a JDK without virtual threads
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.producerconsumer.concurrency;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock-free ring buffer for exactly one producer thread and one consumer thread.
+ * <p>
+ * The producer only writes {@code tail} and the consumer only writes {@code head},
+ * so neither side needs a lock or a CAS. Each side also keeps a private cached copy
+ * of the other's cursor and only re-reads the shared one when it looks full/empty.
+ * The {@link WaitStrategy} is only used when the buffer is actually full or empty.
+ * Waiters check the closed flag between waits, so {@link #close()} needs no extra signal.
+ * <p>
+ * Using more than one producer or more than one consumer corrupts the buffer;
+ * use {@link CircularBuffer} for those cases.
+ */
+public class SpscRingBuffer<T> extends AbstractBuffer<T> {
+
+    private final Object[] slots;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    private final Sequence head = new Sequence(0); // Next slot to read, written by the consumer
+    private final Sequence tail = new Sequence(0); // Next slot to write, written by the producer
+
+    // Producer-local snapshot of head, and consumer-local snapshot of tail. Padded like the
+    // cursors: as adjacent plain fields, the two threads' writes would share a cache line.
+    private final Sequence cachedHead = new Sequence(0);
+    private final Sequence cachedTail = new Sequence(0);
+
+    public SpscRingBuffer(int size, WaitStrategy waitStrategy) {
+        super(size > 0 ? size : DEFAULT_BUFFER_SIZE);
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null.");
+        }
+        // Slots are rounded up to a power of two so indexing is a mask, not a modulo
+        int slotCount = Integer.highestOneBit(this.bufferLimit - 1) << 1;
+        this.slots = new Object[Math.max(slotCount, 1)];
+        this.mask = slots.length - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    public SpscRingBuffer(int size) {
+        this(size, WaitStrategy.YIELD);
+    }
+
+    public SpscRingBuffer() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public void produce(T item) throws InterruptedException {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+
+        awaitRoom();
+        publish(item);
+    }
+
+    @Override
+    public T consume() throws InterruptedException {
+        return awaitItem() ? take() : null;
+    }
+
+    @Override
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+        ensureOpen();
+        if (!hasRoom()) {
+            return false;
+        }
+        publish(item);
+        return true;
+    }
+
+    @Override
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot produce null items.");
+        }
+        ensureOpen();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!hasRoom()) {
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            waitStrategy.await();
+            ensureOpen();
+        }
+        publish(item);
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        return hasItem() ? take() : null;
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!hasItem()) {
+            if (closed) {
+                return hasItem() ? take() : null;
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return null;
+            }
+            waitStrategy.await();
+        }
+        return take();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super T> target, int maxItems) throws InterruptedException {
+        validateDrain(target, maxItems);
+        if (!awaitItem()) {
+            return 0;
+        }
+        long current = head.getPlain();
+
+        // Take everything already published (up to maxItems), then release all slots at once
+        int drained = (int) Math.min(cachedTail.getPlain() - current, maxItems);
+        for (int i = 0; i < drained; i++) {
+            int index = (int) (current + i) & mask;
+            target.add((T) slots[index]);
+            slots[index] = null;
+        }
+        head.setRelease(current + drained);
+        return drained;
+    }
+
+    @Override
+    public boolean isFull() {
+        return getCurrentCount() >= bufferLimit;
+    }
+
+    // A producer that polls would be a second consumer
+    @Override
+    public boolean canEvictOldest() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getCurrentCount() == 0;
+    }
+
+    // Derived from the cursors; a shared counter would put both threads back on one cache line
+    @Override
+    public int getCurrentCount() {
+        long consumed = head.get(); // Read head first so the difference can never go negative
+        long produced = tail.get();
+        return (int) Math.min(produced - consumed, bufferLimit);
+    }
+
+    // Producer side: waits for room, failing if the buffer is closed before or during the wait
+    private void awaitRoom() throws InterruptedException {
+        ensureOpen();
+        while (!hasRoom()) {
+            waitStrategy.await();
+            ensureOpen();
+        }
+    }
+
+    // Producer side: only looks at the consumer's cursor when the cached view says full
+    private boolean hasRoom() {
+        long wrapPoint = tail.getPlain() - bufferLimit;
+        long knownHead = cachedHead.getPlain();
+        if (knownHead <= wrapPoint) {
+            knownHead = head.getAcquire();
+            cachedHead.setPlain(knownHead);
+        }
+        return knownHead > wrapPoint;
+    }
+
+    // Caller must have seen hasRoom() return true
+    private void publish(T item) {
+        long current = tail.getPlain();
+        slots[(int) current & mask] = item;
+        tail.setRelease(current + 1); // Publishes the slot write to the consumer
+    }
+
+    // Consumer side: only looks at the producer's cursor when the cached view says empty
+    private boolean hasItem() {
+        long current = head.getPlain();
+        long knownTail = cachedTail.getPlain();
+        if (current >= knownTail) {
+            knownTail = tail.getAcquire();
+            cachedTail.setPlain(knownTail);
+        }
+        return current < knownTail;
+    }
+
+    // Consumer side: waits for an item; false once the buffer is closed and drained
+    private boolean awaitItem() throws InterruptedException {
+        while (!hasItem()) {
+            // Read the flag before re-checking, so items published before close() are still taken
+            if (closed) {
+                return hasItem();
+            }
+            waitStrategy.await();
+        }
+        return true;
+    }
+
+    // Caller must have seen hasItem() return true
+    @SuppressWarnings("unchecked")
+    private T take() {
+        long current = head.getPlain();
+        int index = (int) current & mask;
+        T item = (T) slots[index];
+        slots[index] = null; // Clear reference for GC
+        head.setRelease(current + 1); // Hands the slot back to the producer
+        return item;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+}
@@ -1,41 +1,140 @@
 package com.producerconsumer.concurrency;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 public class TaskConsumer implements Runnable {
 
+    // How often an open-ended consumer wakes from an empty buffer to check for stop()
+    static final long STOP_CHECK_MS = 50;
+
     private final AbstractBuffer<String> sharedBuffer;
     private final int consumptionTarget;
     private final long processingTimeMs;
     private final String consumerId;
+    private final int batchSize;
+    // No fixed target: runs until stop() is called
+    private final boolean openEnded;
+
+    private volatile boolean stopRequested;
+    // Only written by the consumer thread
+    private volatile int consumedCount;
 
     public TaskConsumer(AbstractBuffer<?> buffer, int target, long timeMs, String id) {
+        this(buffer, target, timeMs, id, 1);
+    }
+
+    // batchSize > 1 switches to batch mode: up to batchSize items are taken per buffer call
+    public TaskConsumer(AbstractBuffer<?> buffer, int target, long timeMs, String id, int batchSize) {
+        this(buffer, target, timeMs, id, batchSize, false);
+    }
+
+    // Open-ended: runs until stop() is called (finishing the item in hand) or the buffer is closed and drained
+    public TaskConsumer(AbstractBuffer<?> buffer, long timeMs, String id) {
+        this(buffer, Integer.MAX_VALUE, timeMs, id, 1, true);
+    }
+
+    private TaskConsumer(AbstractBuffer<?> buffer, int target, long timeMs, String id, int batchSize,
+                         boolean openEnded) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
         @SuppressWarnings("unchecked")
         AbstractBuffer<String> castedBuffer = (AbstractBuffer<String>) buffer;
         this.sharedBuffer = castedBuffer;
         this.consumptionTarget = target;
         this.processingTimeMs = timeMs;
         this.consumerId = id;
+        this.batchSize = batchSize;
+        this.openEnded = openEnded;
     }
 
     @Override
     public void run() {
-        System.out.println(">> [" + consumerId + "] Ready to process.");
+        events().onConsumerStarted(consumerId);
 
-        for (int i = 0; i < consumptionTarget; i++) {
+        if (batchSize > 1) {
+            runBatches();
+        } else {
+            runSingle();
+        }
+        events().onConsumerFinished(consumerId);
+    }
+
+    private void runSingle() {
+        int consumed = 0;
+        while (consumed < consumptionTarget && !stopRequested) {
             try {
-                String data = sharedBuffer.consume();
+                // Open-ended consumers poll with a timeout so stop() is noticed on an empty buffer
+                String data = openEnded
+                        ? sharedBuffer.poll(STOP_CHECK_MS, TimeUnit.MILLISECONDS)
+                        : sharedBuffer.consume();
+                if (data == null) {
+                    // A blocking consume only returns null at end of stream; a poll may just have timed out
+                    if (!openEnded || (sharedBuffer.isClosed() && sharedBuffer.isEmpty())) {
+                        break;
+                    }
+                    continue;
+                }
+                consumedCount = ++consumed;
 
-                System.out.println("   [" + consumerId + "] - Processed: " + data);
+                events().onItemConsumed(consumerId, data);
 
                 if (processingTimeMs > 0) {
                     Thread.sleep(processingTimeMs);
                 }
 
             } catch (InterruptedException e) {
-                System.err.println("!! [" + consumerId + "] Interrupted. Stopping.");
+                events().onWorkerInterrupted(consumerId);
                 Thread.currentThread().interrupt();
                 break;
             }
         }
-        System.out.println("<< [" + consumerId + "] All tasks completed.");
+    }
+
+    private void runBatches() {
+        int consumed = 0;
+        while (consumed < consumptionTarget && !stopRequested) {
+            try {
+                // Never ask for more than is still owed, so other consumers get their share
+                List<String> batch = sharedBuffer.consume(Math.min(batchSize, consumptionTarget - consumed));
+                if (batch.isEmpty()) {
+                    break; // Closed and drained
+                }
+                consumed += batch.size();
+                consumedCount = consumed;
+
+                for (String data : batch) {
+                    events().onItemConsumed(consumerId, data);
+                }
+
+                if (processingTimeMs > 0) {
+                    Thread.sleep(processingTimeMs * batch.size());
+                }
+
+            } catch (InterruptedException e) {
+                events().onWorkerInterrupted(consumerId);
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Asks the consumer to exit after the item it is processing; a fixed-target consumer
+     * blocked on an empty buffer only notices once it receives an item, the buffer is closed,
+     * or it is interrupted. Closing the buffer ends every consumer once it is drained.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public int getConsumedCount() {
+        return consumedCount;
+    }
+
+    // Progress is reported through the buffer's listener (no-op unless one is attached)
+    private BufferEventListener events() {
+        return sharedBuffer.getEventListener();
     }
 }
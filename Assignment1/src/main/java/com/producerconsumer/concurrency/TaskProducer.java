@@ -1,16 +1,71 @@
 package com.producerconsumer.concurrency;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class TaskProducer implements Runnable {
 
+    // CALLER_RUNS default: like TaskConsumer, processing an item is just reporting it
+    private static final Consumer<String> REPORT_ONLY = item -> {
+    };
+
     private final AbstractBuffer<String> sharedBuffer;
     private final int productionTarget;
     private final long waitTimeMs;
     private final String producerId;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutMs;
+    // Lane to tag items with; only set when the buffer is a PriorityBuffer
+    private final PriorityBuffer<String> priorityBuffer;
+    private final int priority;
+    // Replaces the fixed/jittered pacing when set
+    private final FlowController flowController;
+    // Runs items that did not fit under CALLER_RUNS, on the producer thread
+    private final Consumer<? super String> inlineHandler;
+
+    // Outcome counters for the non-blocking policies; only written by the producer thread
+    private volatile int droppedCount;
+    private volatile int inlineCount;
 
     // Use wildcard '?' to allow any buffer type, then cast internally if needed
     public TaskProducer(AbstractBuffer<?> buffer, int target, long waitTimeMs, String id) {
+        this(buffer, target, waitTimeMs, id, OverflowPolicy.BLOCK, 0);
+    }
+
+    // offerTimeoutMs is how long to wait for room before the policy kicks in (ignored for BLOCK)
+    public TaskProducer(AbstractBuffer<?> buffer, int target, long waitTimeMs, String id,
+                        OverflowPolicy overflowPolicy, long offerTimeoutMs) {
+        this(buffer, target, waitTimeMs, id, overflowPolicy, offerTimeoutMs, -1);
+    }
+
+    // priority tags every item with a PriorityBuffer lane (0 is most urgent); negative means untagged
+    public TaskProducer(AbstractBuffer<?> buffer, int target, long waitTimeMs, String id,
+                        OverflowPolicy overflowPolicy, long offerTimeoutMs, int priority) {
+        this(buffer, target, waitTimeMs, id, overflowPolicy, offerTimeoutMs, priority, null, REPORT_ONLY);
+    }
+
+    // CALLER_RUNS: an item that still does not fit after offerTimeoutMs is passed to inlineHandler
+    public TaskProducer(AbstractBuffer<?> buffer, int target, long waitTimeMs, String id, long offerTimeoutMs,
+                        Consumer<? super String> inlineHandler) {
+        this(buffer, target, waitTimeMs, id, OverflowPolicy.CALLER_RUNS, offerTimeoutMs, -1, null,
+                requireHandler(inlineHandler));
+    }
+
+    // Paced by the controller's adaptive rate instead of a fixed wait
+    public TaskProducer(AbstractBuffer<?> buffer, int target, String id, FlowController flowController) {
+        this(buffer, target, 0, id, OverflowPolicy.BLOCK, 0, -1, requireController(flowController), REPORT_ONLY);
+    }
+
+    private TaskProducer(AbstractBuffer<?> buffer, int target, long waitTimeMs, String id,
+                         OverflowPolicy overflowPolicy, long offerTimeoutMs, int priority,
+                         FlowController flowController, Consumer<? super String> inlineHandler) {
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Overflow policy cannot be null.");
+        }
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST && !buffer.canEvictOldest()) {
+            throw new IllegalArgumentException("DROP_OLDEST requires a buffer that can evict its oldest item.");
+        }
         // Safe cast as we will be putting Strings into it
         @SuppressWarnings("unchecked")
         AbstractBuffer<String> castedBuffer = (AbstractBuffer<String>) buffer;
@@ -18,34 +73,158 @@ public class TaskProducer implements Runnable {
         this.productionTarget = target;
         this.waitTimeMs = waitTimeMs;
         this.producerId = id;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMs = Math.max(0, offerTimeoutMs);
+
+        if (priority >= 0) {
+            if (!(buffer instanceof PriorityBuffer)) {
+                throw new IllegalArgumentException("Priorities require a PriorityBuffer.");
+            }
+            @SuppressWarnings("unchecked")
+            PriorityBuffer<String> castedPriorityBuffer = (PriorityBuffer<String>) buffer;
+            if (priority >= castedPriorityBuffer.getLaneCount()) {
+                throw new IllegalArgumentException("Priority exceeds the buffer's lane count.");
+            }
+            this.priorityBuffer = castedPriorityBuffer;
+        } else {
+            this.priorityBuffer = null;
+        }
+        this.priority = priority;
+        this.flowController = flowController;
+        this.inlineHandler = inlineHandler;
     }
 
     @Override
     public void run() {
-        System.out.println(">> [" + producerId + "] Started.");
+        events().onProducerStarted(producerId);
 
         for (int i = 1; i <= productionTarget; i++) {
             try {
                 String dataPacket = producerId + "-Data-" + i;
 
-                sharedBuffer.produce(dataPacket);
+                if (flowController != null) {
+                    flowController.acquire(); // Adaptive pacing replaces the fixed delay
+                }
 
-                System.out.println("   [" + producerId + "] + Generated: " + dataPacket);
+                publish(dataPacket);
 
                 // Simulate processing time
-                if (waitTimeMs > 0) {
-                    Thread.sleep(waitTimeMs);
-                } else {
-                    // Small random jitter if no specific wait time set
-                    Thread.sleep(ThreadLocalRandom.current().nextInt(10, 50));
+                if (flowController == null) {
+                    pause();
                 }
 
             } catch (InterruptedException e) {
-                System.err.println("!! [" + producerId + "] Interrupted. Stopping.");
+                events().onWorkerInterrupted(producerId);
                 Thread.currentThread().interrupt(); // Restore interrupted status
                 break;
+            } catch (IllegalStateException e) {
+                if (!sharedBuffer.isClosed()) {
+                    throw e;
+                }
+                break; // The buffer was closed: the stream is over, stop early
             }
         }
-        System.out.println("<< [" + producerId + "] Finished work.");
+        events().onProducerFinished(producerId);
+    }
+
+    private void pause() throws InterruptedException {
+        if (waitTimeMs > 0) {
+            Thread.sleep(waitTimeMs);
+        } else {
+            // Small random jitter if no specific wait time set
+            Thread.sleep(ThreadLocalRandom.current().nextInt(10, 50));
+        }
+    }
+
+    private void publish(String dataPacket) throws InterruptedException {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            produceTagged(dataPacket);
+            events().onItemProduced(producerId, dataPacket);
+            return;
+        }
+
+        if (offerTagged(dataPacket, offerTimeoutMs)) {
+            events().onItemProduced(producerId, dataPacket);
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedCount++;
+                events().onItemRejected(producerId, dataPacket, overflowPolicy);
+                break;
+            case DROP_OLDEST:
+                // Another consumer may free a slot (or take our victim) in between, so retry until it fits
+                while (!offerTagged(dataPacket)) {
+                    String evicted = sharedBuffer.poll();
+                    if (evicted != null) {
+                        droppedCount++;
+                        events().onItemRejected(producerId, evicted, overflowPolicy);
+                    }
+                }
+                events().onItemProduced(producerId, dataPacket);
+                break;
+            case CALLER_RUNS:
+                inlineHandler.accept(dataPacket);
+                inlineCount++;
+                events().onItemProcessedInline(producerId, dataPacket);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled overflow policy: " + overflowPolicy);
+        }
+    }
+
+    private void produceTagged(String dataPacket) throws InterruptedException {
+        if (priorityBuffer != null) {
+            priorityBuffer.produce(dataPacket, priority);
+        } else {
+            sharedBuffer.produce(dataPacket);
+        }
+    }
+
+    private boolean offerTagged(String dataPacket, long timeoutMs) throws InterruptedException {
+        return priorityBuffer != null
+                ? priorityBuffer.offer(dataPacket, priority, timeoutMs, TimeUnit.MILLISECONDS)
+                : sharedBuffer.offer(dataPacket, timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private boolean offerTagged(String dataPacket) {
+        return priorityBuffer != null ? priorityBuffer.offer(dataPacket, priority) : sharedBuffer.offer(dataPacket);
+    }
+
+    private static FlowController requireController(FlowController flowController) {
+        if (flowController == null) {
+            throw new IllegalArgumentException("Flow controller cannot be null.");
+        }
+        return flowController;
+    }
+
+    private static Consumer<? super String> requireHandler(Consumer<? super String> inlineHandler) {
+        if (inlineHandler == null) {
+            throw new IllegalArgumentException("Inline handler cannot be null.");
+        }
+        return inlineHandler;
+    }
+
+    // Progress is reported through the buffer's listener (no-op unless one is attached)
+    private BufferEventListener events() {
+        return sharedBuffer.getEventListener();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    // Negative when items are not tagged
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getDroppedCount() {
+        return droppedCount;
+    }
+
+    public int getInlineCount() {
+        return inlineCount;
     }
 }
@@ -0,0 +1,48 @@
+package com.producerconsumer.concurrency;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a lock-free buffer idles while it is full (producer side) or empty
+ * (consumer side). The strategy is only consulted off the fast path.
+ */
+public enum WaitStrategy {
+
+    // Lowest latency, burns a full core while waiting
+    SPIN {
+        @Override
+        void idle() {
+            Thread.onSpinWait();
+        }
+    },
+
+    // Gives the core to other runnable threads, still no sleeping
+    YIELD {
+        @Override
+        void idle() {
+            Thread.yield();
+        }
+    },
+
+    // Sleeps briefly between checks; cheapest on CPU, highest wake-up latency
+    PARK {
+        @Override
+        void idle() {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+
+    private static final long PARK_NANOS = 50_000L;
+
+    abstract void idle();
+
+    /**
+     * Idles once, then reports interruption the same way {@code wait()} would.
+     */
+    void await() throws InterruptedException {
+        idle();
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Close / End-of-Stream Tests (all in-memory buffers)")
+class BufferCloseTest {
+
+    private static final int CAPACITY = 4;
+
+    static Stream<Arguments> buffers() {
+        return Stream.of(
+                buffer("CircularBuffer", () -> new CircularBuffer<>(CAPACITY)),
+                buffer("ElasticBuffer", () -> new ElasticBuffer<>(2, CAPACITY)),
+                buffer("ConditionBuffer", () -> new ConditionBuffer<>(CAPACITY)),
+                buffer("SegmentedElasticBuffer", () -> new SegmentedElasticBuffer<>(2, CAPACITY)),
+                buffer("PriorityBuffer", () -> new PriorityBuffer<>(CAPACITY, 2)),
+                buffer("SpscRingBuffer", () -> new SpscRingBuffer<>(CAPACITY)),
+                buffer("MpmcRingBuffer", () -> new MpmcRingBuffer<>(CAPACITY)),
+                buffer("ShardedBuffer", () -> new ShardedBuffer<>(2, CAPACITY / 2)),
+                buffer("InstrumentedBuffer", () -> new InstrumentedBuffer<>(new CircularBuffer<>(CAPACITY))));
+    }
+
+    private static Arguments buffer(String name, Supplier<AbstractBuffer<Integer>> factory) {
+        return Arguments.of(name, factory);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("buffers")
+    @DisplayName("Inserts fail fast once the buffer is closed")
+    void verifyProduceAfterClose(String name, Supplier<AbstractBuffer<Integer>> factory) {
+        AbstractBuffer<Integer> buffer = factory.get();
+        assertFalse(buffer.isClosed());
+
+        buffer.close();
+        buffer.close(); // Idempotent
+
+        assertTrue(buffer.isClosed());
+        assertThrows(IllegalStateException.class, () -> buffer.produce(1));
+        assertThrows(IllegalStateException.class, () -> buffer.offer(1));
+        assertThrows(IllegalStateException.class, () -> buffer.offer(1, 10, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalStateException.class, () -> buffer.produceAll(List.of(1, 2)));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("buffers")
+    @Timeout(5)
+    @DisplayName("Consumers drain what is left, then see end of stream")
+    void verifyDrainThenEndOfStream(String name, Supplier<AbstractBuffer<Integer>> factory)
+            throws InterruptedException {
+        AbstractBuffer<Integer> buffer = factory.get();
+        buffer.produce(1);
+        buffer.produce(2);
+        buffer.produce(3);
+        buffer.close();
+
+        List<Integer> drained = new ArrayList<>();
+        drained.add(buffer.consume());
+        assertEquals(1, buffer.drainTo(drained, 1));
+        drained.add(buffer.poll(10, TimeUnit.SECONDS));
+        assertEquals(3, drained.size());
+        assertTrue(drained.containsAll(List.of(1, 2, 3)));
+
+        // Every consume variant reports end of stream instead of blocking
+        assertNull(buffer.consume());
+        assertNull(buffer.poll());
+        assertNull(buffer.poll(10, TimeUnit.SECONDS));
+        assertEquals(0, buffer.drainTo(drained, 4));
+        assertTrue(buffer.consume(4).isEmpty());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("buffers")
+    @Timeout(5)
+    @DisplayName("close() wakes every blocked consumer at once")
+    void verifyCloseWakesConsumers(String name, Supplier<AbstractBuffer<Integer>> factory)
+            throws InterruptedException {
+        AbstractBuffer<Integer> buffer = factory.get();
+        // The SPSC ring supports exactly one consumer
+        int consumers = buffer instanceof SpscRingBuffer ? 1 : 3;
+        CountDownLatch started = new CountDownLatch(consumers);
+        AtomicInteger endOfStream = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < consumers; i++) {
+            Thread t = new Thread(() -> {
+                started.countDown();
+                try {
+                    if (buffer.consume() == null) {
+                        endOfStream.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        started.await();
+        Thread.sleep(100); // Let every consumer block on the empty buffer
+
+        buffer.close();
+        for (Thread t : threads) {
+            t.join(2000);
+            assertFalse(t.isAlive(), "Consumer should have been woken by close()");
+        }
+        assertEquals(consumers, endOfStream.get());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("buffers")
+    @Timeout(5)
+    @DisplayName("close() wakes a producer blocked on a full buffer, which then fails")
+    void verifyCloseWakesProducer(String name, Supplier<AbstractBuffer<Integer>> factory)
+            throws InterruptedException {
+        AbstractBuffer<Integer> buffer = factory.get();
+        int filled = 0;
+        while (buffer.offer(filled)) {
+            filled++;
+        }
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        Thread producer = new Thread(() -> {
+            started.countDown();
+            try {
+                buffer.produce(-1);
+            } catch (IllegalStateException e) {
+                failures.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        started.await();
+        Thread.sleep(100);
+
+        buffer.close();
+        producer.join(2000);
+        assertFalse(producer.isAlive(), "Producer should have been woken by close()");
+        assertEquals(1, failures.get());
+
+        // Nothing the blocked producer held was inserted; what was there is still drained
+        int drained = 0;
+        Integer item;
+        while ((item = buffer.consume()) != null) {
+            assertNotEquals(-1, item);
+            drained++;
+        }
+        assertEquals(filled, drained);
+    }
+}
@@ -6,6 +6,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Timeout;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Unit Tests: CircularBuffer (Fixed)")
@@ -150,4 +155,105 @@ class CircularBufferTest {
         consumerThread.join(1000);
         assertFalse(consumerThread.isAlive());
     }
+
+    @Test
+    @DisplayName("Verify produceAll and drainTo move batches in FIFO order")
+    void verifyBatchCycle() throws InterruptedException {
+        buffer.produceAll(Arrays.asList("A", "B", "C", "D"));
+        assertEquals(4, buffer.getCurrentCount());
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertEquals(Arrays.asList("A", "B", "C"), drained);
+
+        assertEquals(Arrays.asList("D"), buffer.consume(10));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify produceAll rejects a batch containing null before inserting anything")
+    void verifyBatchNullSafety() {
+        assertThrows(IllegalArgumentException.class, () -> buffer.produceAll(Arrays.asList("A", null)));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify produceAll larger than capacity blocks until drained")
+    void verifyOversizedBatchBlocks() throws InterruptedException {
+        List<String> batch = new ArrayList<>();
+        for (int i = 0; i < INITIAL_CAPACITY * 2; i++) {
+            batch.add("Item-" + i);
+        }
+
+        Thread producerThread = new Thread(() -> {
+            try {
+                buffer.produceAll(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producerThread.start();
+        Thread.sleep(100);
+
+        // First half fits, second half is waiting for room
+        assertTrue(producerThread.isAlive());
+        assertTrue(buffer.isFull());
+
+        List<String> received = new ArrayList<>();
+        while (received.size() < batch.size()) {
+            buffer.drainTo(received, INITIAL_CAPACITY);
+        }
+
+        producerThread.join(1000);
+        assertFalse(producerThread.isAlive());
+        assertEquals(batch, received);
+    }
+
+    @Test
+    @DisplayName("Verify non-blocking offer/poll report full and empty")
+    void verifyNonBlockingOfferPoll() {
+        assertNull(buffer.poll());
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            assertTrue(buffer.offer("Data-" + i));
+        }
+        assertFalse(buffer.offer("Overflow"));
+        assertEquals("Data-0", buffer.poll());
+        assertTrue(buffer.offer("Fits"));
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify timed offer gives up after the timeout")
+    void verifyTimedOfferTimesOut() throws InterruptedException {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce("Filler");
+        }
+
+        long start = System.nanoTime();
+        assertFalse(buffer.offer("Late", 100, TimeUnit.MILLISECONDS));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs >= 100, "Returned before the timeout: " + elapsedMs + "ms");
+        assertEquals(INITIAL_CAPACITY, buffer.getCurrentCount());
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify timed poll returns an item that arrives before the deadline")
+    void verifyTimedPollReceives() throws InterruptedException {
+        Thread producerThread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                buffer.produce("Arrived");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producerThread.start();
+
+        assertEquals("Arrived", buffer.poll(1, TimeUnit.SECONDS));
+        assertNull(buffer.poll(50, TimeUnit.MILLISECONDS));
+        producerThread.join();
+    }
 }
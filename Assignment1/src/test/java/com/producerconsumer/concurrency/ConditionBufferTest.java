@@ -0,0 +1,131 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: ConditionBuffer (Split Conditions)")
+class ConditionBufferTest {
+
+    private ConditionBuffer<String> buffer;
+    private static final int INITIAL_CAPACITY = 5;
+
+    @BeforeEach
+    void init() {
+        buffer = new ConditionBuffer<>(INITIAL_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Verify initialization state and fairness flag")
+    void verifyInitialization() {
+        assertEquals(INITIAL_CAPACITY, buffer.getBufferLimit());
+        assertTrue(buffer.isEmpty());
+        assertFalse(buffer.isFair());
+        assertTrue(new ConditionBuffer<String>(3, true).isFair());
+    }
+
+    @Test
+    @DisplayName("Verify FIFO ordering across wrap-around")
+    void verifyCircularWrapping() throws InterruptedException {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce("Old-" + i);
+        }
+        assertTrue(buffer.isFull());
+        buffer.consume();
+        buffer.consume();
+        buffer.produceAll(Arrays.asList("New-A", "New-B"));
+
+        List<String> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+        assertEquals(Arrays.asList("Old-2", "Old-3", "Old-4", "New-A", "New-B"), drained);
+    }
+
+    @Test
+    @DisplayName("Verify Null rejection")
+    void verifyNullSafety() {
+        assertThrows(IllegalArgumentException.class, () -> buffer.produce(null));
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify a burst wakes every waiting consumer (no stranded waiters)")
+    void verifySignalCascade() throws InterruptedException {
+        int waiters = 4;
+        List<Thread> consumers = new ArrayList<>();
+        for (int i = 0; i < waiters; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    buffer.consume();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            consumers.add(t);
+            t.start();
+        }
+        Thread.sleep(100); // Let every consumer park on notEmpty
+
+        // Only the first insert is an empty -> non-empty transition
+        buffer.produceAll(Arrays.asList("A", "B", "C", "D"));
+
+        for (Thread t : consumers) {
+            t.join(2000);
+            assertFalse(t.isAlive(), "Consumer was never woken");
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify producers blocked on a full buffer are all released")
+    void verifyProducerCascade() throws InterruptedException {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce("Filler");
+        }
+
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    buffer.produce("Late");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers.add(t);
+            t.start();
+        }
+        Thread.sleep(100);
+
+        // One drain frees three slots with a single full -> non-full signal
+        assertEquals(3, buffer.drainTo(new ArrayList<>(), 3));
+
+        for (Thread t : producers) {
+            t.join(2000);
+            assertFalse(t.isAlive(), "Producer was never woken");
+        }
+        assertTrue(buffer.isFull());
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify timed offer and poll honour their deadlines")
+    void verifyTimedOperations() throws InterruptedException {
+        assertNull(buffer.poll(50, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            assertTrue(buffer.offer("Data-" + i));
+        }
+        assertFalse(buffer.offer("Overflow"));
+        assertFalse(buffer.offer("Overflow", 50, TimeUnit.MILLISECONDS));
+        assertEquals("Data-0", buffer.poll(50, TimeUnit.MILLISECONDS));
+        assertTrue(buffer.offer("Fits", 50, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,205 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: ConsumerPool (Elastic Consumers)")
+class ConsumerPoolTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Long enough that the monitor thread never samples during a test; evaluate() is driven by hand
+    private static final long MANUAL_SAMPLING_MS = 60_000;
+
+    private ConsumerPool pool;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (pool != null) {
+            pool.shutdown(200, TimeUnit.MILLISECONDS); // Slow consumers never drain; just stop them
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify a growing backlog adds consumers up to the maximum")
+    void verifyScaleUp() throws InterruptedException {
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(10);
+        // Slow consumers, so each one holds a single item for the whole test
+        pool = newPool(buffer, 1, 3, 0);
+        pool.start();
+
+        long now = System.nanoTime();
+        for (int round = 1; round <= 4; round++) {
+            fill(buffer);
+            pool.evaluate(now + round * MS);
+        }
+        assertEquals(3, pool.getConsumerCount());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify an idle buffer retires consumers down to the minimum")
+    void verifyScaleDown() throws InterruptedException {
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(10);
+        pool = newPool(buffer, 1, 4, 0);
+        pool.start();
+        assertTrue(pool.requestScaleUp());
+        assertTrue(pool.requestScaleUp());
+        assertEquals(3, pool.getConsumerCount());
+
+        long now = System.nanoTime();
+        assertEquals(-1, pool.evaluate(now + MS));
+        assertEquals(-1, pool.evaluate(now + 2 * MS));
+        assertEquals(0, pool.evaluate(now + 3 * MS));
+        assertEquals(1, pool.getConsumerCount());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify the cooldown suppresses back-to-back scaling")
+    void verifyCooldown() throws InterruptedException {
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(10);
+        pool = newPool(buffer, 1, 3, 1_000);
+        pool.start();
+
+        long now = System.nanoTime();
+        fill(buffer);
+        assertEquals(0, pool.evaluate(now + 10 * MS));
+        assertFalse(pool.requestScaleUp());
+        assertEquals(1, pool.evaluate(now + 1_100 * MS));
+        fill(buffer);
+        assertEquals(0, pool.evaluate(now + 1_200 * MS));
+        assertEquals(2, pool.getConsumerCount());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify shutdown drains the buffer before stopping consumers")
+    void verifyGracefulDrain() throws InterruptedException {
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(50);
+        ConsumerPool drainingPool = new ConsumerPool(buffer, 1, 4, 1, 0, 10,
+                SimulationRunner.threadFactory(SimulationRunner.ThreadMode.PLATFORM, "pool-"));
+        drainingPool.start();
+
+        for (int i = 0; i < 200; i++) {
+            buffer.produce("item-" + i);
+        }
+        assertTrue(drainingPool.shutdown(5, TimeUnit.SECONDS));
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, drainingPool.getConsumerCount());
+        assertFalse(drainingPool.requestScaleUp());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify shutdown closes the buffer and every queued item is consumed")
+    void verifyShutdownClosesBuffer() throws InterruptedException {
+        AtomicInteger consumed = new AtomicInteger();
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(50);
+        buffer.setEventListener(new BufferEventListener() {
+            @Override
+            public void onItemConsumed(String consumerId, Object item) {
+                consumed.incrementAndGet();
+            }
+        });
+        ConsumerPool closingPool = new ConsumerPool(buffer, 2, 2, 0, 0, MANUAL_SAMPLING_MS,
+                SimulationRunner.threadFactory(SimulationRunner.ThreadMode.PLATFORM, "pool-"));
+        closingPool.start();
+
+        for (int i = 0; i < 40; i++) {
+            buffer.produce("item-" + i);
+        }
+        assertTrue(closingPool.shutdown(5, TimeUnit.SECONDS));
+
+        assertTrue(buffer.isClosed());
+        assertEquals(40, consumed.get());
+        assertThrows(IllegalStateException.class, () -> buffer.produce("late"));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify shutdown waits for a retired consumer to finish its last item")
+    void verifyShutdownJoinsRetiredConsumers() throws InterruptedException {
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(10);
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        ThreadFactory factory = SimulationRunner.threadFactory(SimulationRunner.ThreadMode.PLATFORM, "pool-");
+        pool = new ConsumerPool(buffer, 1, 2, 500, 0, MANUAL_SAMPLING_MS, runnable -> {
+            Thread thread = factory.newThread(runnable);
+            threads.add(thread);
+            return thread;
+        });
+        pool.start();
+
+        // The newest consumer takes its item later, so it is still busy after the first one exits
+        buffer.produce("a");
+        awaitEmpty(buffer);
+        Thread.sleep(250);
+        assertTrue(pool.requestScaleUp());
+        buffer.produce("b");
+        awaitEmpty(buffer);
+        assertEquals(-1, pool.evaluate(System.nanoTime() + MS));
+
+        assertTrue(pool.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(2, threads.size());
+        for (Thread thread : threads) {
+            assertFalse(thread.isAlive());
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify an open-ended TaskConsumer stops on request")
+    void verifyOpenEndedConsumerStops() throws InterruptedException {
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(10);
+        TaskConsumer consumer = new TaskConsumer(buffer, 0, "C1");
+        Thread thread = new Thread(consumer);
+        thread.start();
+
+        buffer.produce("a");
+        buffer.produce("b");
+        while (!buffer.isEmpty()) {
+            Thread.sleep(5);
+        }
+        consumer.stop();
+        thread.join(2_000);
+
+        assertFalse(thread.isAlive());
+        assertEquals(2, consumer.getConsumedCount());
+    }
+
+    @Test
+    @DisplayName("Verify validation")
+    void verifyValidation() {
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(10);
+        assertThrows(IllegalArgumentException.class, () -> new ConsumerPool(buffer, 0, 2, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ConsumerPool(buffer, 3, 2, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ConsumerPool(null, 1, 2, 0, 0));
+    }
+
+    private ConsumerPool newPool(AbstractBuffer<?> buffer, int min, int max, long cooldownMs) {
+        return new ConsumerPool(buffer, min, max, 60_000, cooldownMs, MANUAL_SAMPLING_MS,
+                SimulationRunner.threadFactory(SimulationRunner.ThreadMode.PLATFORM, "pool-"));
+    }
+
+    private static void awaitEmpty(AbstractBuffer<?> buffer) throws InterruptedException {
+        while (!buffer.isEmpty()) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void fill(AbstractBuffer<String> buffer) {
+        while (buffer.offer("backlog")) {
+            // Top up to full
+        }
+    }
+}
@@ -3,6 +3,11 @@ package com.producerconsumer.concurrency;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Unit Tests: ElasticBuffer (Dynamic)")
@@ -97,4 +102,101 @@ class ElasticBufferTest {
             assertEquals("Item-" + i, elasticBuffer.consume());
         }
     }
+
+    @Test
+    @DisplayName("Verify produceAll grows to the same capacity as per-item produce")
+    void verifyBatchResize() throws InterruptedException {
+        List<String> batch = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            batch.add("Item-" + i);
+        }
+
+        ElasticBuffer<String> perItem = new ElasticBuffer<>(START_SIZE);
+        for (String item : batch) {
+            perItem.produce(item);
+        }
+        elasticBuffer.produceAll(batch);
+
+        assertEquals(perItem.getBufferLimit(), elasticBuffer.getBufferLimit());
+        assertEquals(30, elasticBuffer.getCurrentCount());
+        assertEquals(batch, elasticBuffer.consume(30));
+    }
+
+    @Test
+    @DisplayName("Verify offer expands instead of reporting full")
+    void verifyOfferExpands() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(elasticBuffer.offer("Item-" + i));
+        }
+        assertTrue(elasticBuffer.getBufferLimit() > START_SIZE);
+        assertEquals("Item-0", elasticBuffer.poll());
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify growth stops at max capacity and producers fall back to blocking")
+    void verifyMaxCapacityBackpressure() throws InterruptedException {
+        ElasticBuffer<String> bounded = new ElasticBuffer<>(START_SIZE, 8);
+        for (int i = 0; i < 8; i++) {
+            bounded.produce("Item-" + i);
+        }
+        assertEquals(8, bounded.getBufferLimit());
+        assertTrue(bounded.isFull());
+        assertFalse(bounded.offer("Overflow"));
+
+        Thread producerThread = new Thread(() -> {
+            try {
+                bounded.produce("Blocked");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producerThread.start();
+        Thread.sleep(100);
+        assertTrue(producerThread.isAlive());
+
+        bounded.consume();
+        producerThread.join(1000);
+        assertFalse(producerThread.isAlive());
+        assertEquals(8, bounded.getBufferLimit());
+    }
+
+    @Test
+    @DisplayName("Verify capacity shrinks only after sustained low occupancy")
+    void verifyHysteresisShrink() throws InterruptedException {
+        for (int i = 0; i < 30; i++) {
+            elasticBuffer.produce("Burst-" + i);
+        }
+        int peak = elasticBuffer.getBufferLimit();
+        for (int i = 0; i < 30; i++) {
+            elasticBuffer.consume();
+        }
+        // Draining the burst alone is not a sustained lull
+        assertEquals(peak, elasticBuffer.getBufferLimit());
+
+        // Trickle traffic: one item in, one item out, keeps occupancy near zero
+        for (int i = 0; i < 500; i++) {
+            elasticBuffer.produce("Trickle-" + i);
+            assertEquals("Trickle-" + i, elasticBuffer.consume());
+        }
+        assertEquals(START_SIZE, elasticBuffer.getBufferLimit(), "Should shrink back to the initial size");
+    }
+
+    @Test
+    @DisplayName("Verify custom growth factor and threshold")
+    void verifyCustomGrowth() throws InterruptedException {
+        ElasticBuffer<String> custom = new ElasticBuffer<>(4, 100, 1.5, 0.5, 0.1);
+        custom.produce("A");
+        custom.produce("B"); // 2/4 = 0.5 -> next produce grows
+        custom.produce("C");
+        assertEquals(6, custom.getBufferLimit());
+    }
+
+    @Test
+    @DisplayName("Verify thresholds that would thrash are rejected")
+    void verifyInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ElasticBuffer<String>(4, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ElasticBuffer<String>(4, 64, 1.0, 0.75, 0.25));
+        assertThrows(IllegalArgumentException.class, () -> new ElasticBuffer<String>(4, 64, 2.0, 0.75, 0.5));
+    }
 }
@@ -0,0 +1,188 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: Buffer Event Listeners")
+class EventListenerTest {
+
+    // Records every callback as a short tag
+    private static class RecordingListener implements BufferEventListener {
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override public void onProducerWaiting() { events.add("producer-waiting"); }
+        @Override public void onConsumerWaiting() { events.add("consumer-waiting"); }
+        @Override public void onResize(int oldLimit, int newLimit) { events.add("resize " + oldLimit + "->" + newLimit); }
+        @Override public void onProducerStarted(String id) { events.add("start " + id); }
+        @Override public void onProducerFinished(String id) { events.add("finish " + id); }
+        @Override public void onItemProduced(String id, Object item) { events.add("produced " + item); }
+        @Override public void onItemRejected(String id, Object item, OverflowPolicy policy) { events.add(policy + " " + item); }
+    }
+
+    @Test
+    @DisplayName("Verify buffers and workers report through the attached listener")
+    void verifyEventsDelivered() {
+        RecordingListener listener = new RecordingListener();
+        AbstractBuffer<String> buffer = new ElasticBuffer<>(2, 4);
+        buffer.setEventListener(listener);
+
+        new TaskProducer(buffer, 5, 1, "P", OverflowPolicy.DROP_NEWEST, 0).run();
+
+        assertEquals("start P", listener.events.get(0));
+        assertTrue(listener.events.contains("resize 2->4"));
+        assertTrue(listener.events.contains("produced P-Data-4"));
+        assertTrue(listener.events.contains("DROP_NEWEST P-Data-5"));
+        assertEquals("finish P", listener.events.get(listener.events.size() - 1));
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify wait events from the lock-based buffers")
+    void verifyWaitEvents() throws InterruptedException {
+        RecordingListener listener = new RecordingListener();
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(1);
+        buffer.setEventListener(listener);
+
+        assertNull(buffer.poll(10, TimeUnit.MILLISECONDS));
+        buffer.produce("A");
+        assertFalse(buffer.offer("B", 10, TimeUnit.MILLISECONDS));
+
+        assertEquals(List.of("consumer-waiting", "producer-waiting"), listener.events);
+    }
+
+    @Test
+    @DisplayName("Verify no listener means no output and no failure")
+    void verifyNoOpDefault() throws InterruptedException {
+        AbstractBuffer<String> buffer = new CircularBuffer<>(2);
+        assertSame(BufferEventListener.NO_OP, buffer.getEventListener());
+        buffer.setEventListener(null);
+        assertSame(BufferEventListener.NO_OP, buffer.getEventListener());
+        buffer.produce("A");
+        assertEquals("A", buffer.consume());
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify async logger writes every message in order and flushes on close")
+    void verifyAsyncLogger() throws InterruptedException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        AsyncLoggingListener logger = new AsyncLoggingListener(new PrintStream(sink, true, StandardCharsets.UTF_8), 1024);
+
+        AbstractBuffer<String> buffer = new CircularBuffer<>(4);
+        buffer.setEventListener(logger);
+        Thread producer = new Thread(new TaskProducer(buffer, 20, 1, "AP"));
+        Thread consumer = new Thread(new TaskConsumer(buffer, 20, 0, "AC"));
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        logger.close();
+
+        String output = sink.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains(">> [AP] Started."));
+        assertTrue(output.contains("   [AC] - Processed: AP-Data-20"));
+        assertTrue(output.indexOf("+ Generated: AP-Data-1" + System.lineSeparator())
+                < output.indexOf("+ Generated: AP-Data-2" + System.lineSeparator()));
+        assertEquals(0, logger.getDroppedMessages());
+
+        // After close, messages are counted as dropped instead of blocking the caller
+        logger.onProducerWaiting();
+        assertEquals(1, logger.getDroppedMessages());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify messages racing with close are either written or counted as dropped")
+    void verifyAsyncLoggerCloseRace() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            ByteArrayOutputStream sink = new ByteArrayOutputStream();
+            AsyncLoggingListener logger = new AsyncLoggingListener(new PrintStream(sink, true, StandardCharsets.UTF_8), 64);
+            int threads = 4;
+            int perThread = 500;
+            CountDownLatch started = new CountDownLatch(threads);
+            List<Thread> loggers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread thread = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < perThread; i++) {
+                        logger.onConsumerWaiting();
+                    }
+                });
+                loggers.add(thread);
+                thread.start();
+            }
+            started.await();
+            logger.close();
+            for (Thread thread : loggers) {
+                thread.join();
+            }
+
+            long written = sink.toString(StandardCharsets.UTF_8).lines().count();
+            assertEquals(threads * perThread, written + logger.getDroppedMessages(), "Round " + round);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify an idle async logger parks until the next message")
+    void verifyAsyncLoggerParksWhenIdle() throws InterruptedException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        AsyncLoggingListener logger = new AsyncLoggingListener(new PrintStream(sink, true, StandardCharsets.UTF_8), 16);
+
+        for (int round = 0; round < 3; round++) {
+            awaitWriterState(logger, Thread.State.WAITING);
+            logger.onProducerStarted("P" + round);
+            while (!sink.toString(StandardCharsets.UTF_8).contains("[P" + round + "] Started.")) {
+                Thread.sleep(5);
+            }
+        }
+        logger.close();
+        assertEquals(Thread.State.TERMINATED, logger.getWriterState());
+    }
+
+    @Test
+    @DisplayName("Verify async logger records items as they were when the event happened")
+    void verifyAsyncLoggerCapturesItemText() {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        AsyncLoggingListener logger = new AsyncLoggingListener(new PrintStream(sink, true, StandardCharsets.UTF_8), 16);
+        StringBuilder item = new StringBuilder("before");
+
+        logger.onItemProduced("P1", item);
+        item.setLength(0);
+        item.append("after");
+        logger.close();
+
+        assertTrue(sink.toString(StandardCharsets.UTF_8).contains("[P1] + Generated: before"));
+    }
+
+    @Test
+    @DisplayName("Verify an interrupted close keeps the interrupt status instead of throwing")
+    void verifyAsyncLoggerCloseKeepsInterrupt() {
+        AsyncLoggingListener logger = new AsyncLoggingListener(new PrintStream(new ByteArrayOutputStream()), 16);
+        Thread.currentThread().interrupt();
+        try {
+            logger.close();
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static void awaitWriterState(AsyncLoggingListener logger, Thread.State state) throws InterruptedException {
+        while (logger.getWriterState() != state) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Unit Tests: EventSlotBuffer (Claim/Publish, Object Reuse)")
+class EventSlotBufferTest {
+
+    // Stand-in for a large mutable production event
+    static final class Event {
+        long id;
+        final byte[] payload = new byte[256];
+    }
+
+    private static final int CAPACITY = 4;
+    private AtomicInteger created;
+    private EventSlotBuffer<Event> buffer;
+
+    @BeforeEach
+    void init() {
+        created = new AtomicInteger();
+        buffer = new EventSlotBuffer<>(CAPACITY, () -> {
+            created.incrementAndGet();
+            return new Event();
+        });
+    }
+
+    @Test
+    @DisplayName("Verify events are pre-allocated once and reused in FIFO order")
+    void verifyReuse() throws InterruptedException {
+        assertEquals(CAPACITY, created.get());
+        Set<Event> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (long round = 0; round < 3 * CAPACITY; round++) {
+            long claimed = buffer.claim();
+            buffer.get(claimed).id = round;
+            buffer.publish(claimed);
+
+            long taken = buffer.take();
+            Event event = buffer.get(taken);
+            assertEquals(round, event.id);
+            seen.add(event);
+            buffer.release(taken);
+        }
+        assertEquals(CAPACITY, created.get());
+        assertEquals(CAPACITY, seen.size());
+    }
+
+    @Test
+    @DisplayName("Verify tryClaim/tryTake report full and empty")
+    void verifyBounds() throws InterruptedException {
+        assertEquals(EventSlotBuffer.NONE, buffer.tryTake());
+        for (int i = 0; i < CAPACITY; i++) {
+            final long id = i;
+            buffer.produce(event -> event.id = id);
+        }
+        assertTrue(buffer.isFull());
+        assertEquals(EventSlotBuffer.NONE, buffer.tryClaim());
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < CAPACITY; i++) {
+            buffer.consume(event -> ids.add(event.id));
+        }
+        assertEquals(List.of(0L, 1L, 2L, 3L), ids);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify a slot is not visible to consumers until it is published")
+    void verifyPublishOrdering() {
+        long claimed = buffer.tryClaim();
+        assertNotEquals(EventSlotBuffer.NONE, claimed);
+        assertEquals(EventSlotBuffer.NONE, buffer.tryTake());
+
+        buffer.publish(claimed);
+        assertEquals(claimed, buffer.tryTake());
+    }
+
+    @Test
+    @DisplayName("Verify constructor validation")
+    void verifyValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new EventSlotBuffer<Event>(4, null));
+        assertThrows(IllegalArgumentException.class, () -> new EventSlotBuffer<Event>(4, () -> null));
+        assertEquals(8, new EventSlotBuffer<>(5, Event::new).getBufferLimit());
+    }
+
+    @Test
+    @DisplayName("Verify steady-state handoff does not allocate")
+    void verifyNoPerItemAllocation() throws InterruptedException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        EventSlotBuffer<Event> large = new EventSlotBuffer<>(64, Event::new);
+        cycle(large, 10_000); // warm-up
+
+        long tid = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(tid);
+        cycle(large, 100_000);
+        long allocated = threads.getThreadAllocatedBytes(tid) - before;
+
+        // A fresh 256-byte event per item would allocate tens of megabytes
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify many producers and consumers hand over every event exactly once")
+    void verifyConcurrentHandoff() throws InterruptedException {
+        EventSlotBuffer<Event> shared = new EventSlotBuffer<>(16, Event::new);
+        int producers = 4;
+        int perProducer = 5_000;
+        AtomicLong sum = new AtomicLong();
+
+        List<Runnable> workers = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final long base = (long) p * perProducer;
+            workers.add(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        long sequence = shared.claim();
+                        shared.get(sequence).id = base + i;
+                        shared.publish(sequence);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            workers.add(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        long sequence = shared.take();
+                        sum.addAndGet(shared.get(sequence).id);
+                        shared.release(sequence);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        assertTrue(SimulationRunner.runAll(SimulationRunner.ThreadMode.PLATFORM, workers, 10, TimeUnit.SECONDS));
+        long n = (long) producers * perProducer;
+        assertEquals(n * (n - 1) / 2, sum.get());
+        assertTrue(shared.isEmpty());
+    }
+
+    private static void cycle(EventSlotBuffer<Event> target, int items) throws InterruptedException {
+        for (int i = 0; i < items; i++) {
+            long claimed = target.claim();
+            Event event = target.get(claimed);
+            event.id = i;
+            event.payload[0] = (byte) i;
+            target.publish(claimed);
+
+            long taken = target.take();
+            target.get(taken).id = -1;
+            target.release(taken);
+        }
+    }
+}
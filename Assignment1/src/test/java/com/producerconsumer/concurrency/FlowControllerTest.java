@@ -0,0 +1,152 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: FlowController (Adaptive Backpressure)")
+class FlowControllerTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Verify permits are spaced evenly at the current rate")
+    void verifyTokenBucketPacing() {
+        CircularBuffer<String> buffer = new CircularBuffer<>(10);
+        // Fixed 100 items/s: one permit every 10 ms
+        FlowController controller = new FlowController(buffer, 0.5, 0, 100, 100, 1_000);
+        long now = System.nanoTime();
+
+        assertEquals(0, controller.reserve(now));
+        assertEquals(10 * MS, controller.reserve(now), MS / 10);
+        assertEquals(20 * MS, controller.reserve(now), MS / 10);
+        // Idle time is not banked: after a pause the next permit is immediate
+        assertEquals(0, controller.reserve(now + 500 * MS));
+    }
+
+    @Test
+    @DisplayName("Verify AIMD: additive increase below target, multiplicative decrease above")
+    void verifyAimd() throws InterruptedException {
+        CircularBuffer<String> buffer = new CircularBuffer<>(10);
+        FlowController controller = new FlowController(buffer, 0.5, 0, 10, 1_010, 50);
+        double initial = controller.getRate();
+        long now = System.nanoTime();
+
+        synchronized (controller) {
+            controller.adjust(now + 50 * MS); // Empty buffer: speed up by one step
+        }
+        assertEquals(initial + 20, controller.getRate(), 0.001);
+
+        for (int i = 0; i < 8; i++) {
+            buffer.produce("item-" + i);
+        }
+        synchronized (controller) {
+            controller.adjust(now + 100 * MS); // 80% full: back off
+        }
+        assertTrue(controller.getRate() <= (initial + 20) / 2);
+        assertTrue(controller.getRate() >= 10);
+    }
+
+    @Test
+    @DisplayName("Verify the rate is capped at the measured drain rate when backlogged")
+    void verifyDrainRateCap() throws InterruptedException {
+        CircularBuffer<String> buffer = new CircularBuffer<>(100);
+        FlowController controller = new FlowController(buffer, 0.5, 0, 1, 10_000, 100);
+        long now = System.nanoTime();
+
+        // 100 permits in 100 ms but the buffer gained 60: consumers drained 40, i.e. 400 items/s
+        for (int i = 0; i < 100; i++) {
+            controller.reserve(now);
+        }
+        for (int i = 0; i < 60; i++) {
+            buffer.produce("item-" + i);
+        }
+        synchronized (controller) {
+            controller.adjust(now + 100 * MS);
+        }
+        assertEquals(400, controller.getDrainRate(), 1.0);
+        assertEquals(400, controller.getRate(), 1.0);
+    }
+
+    @Test
+    @DisplayName("Verify a sustained backlog calls the backlog handler")
+    void verifyBacklogHandler() throws InterruptedException {
+        CircularBuffer<String> buffer = new CircularBuffer<>(10);
+        FlowController controller = new FlowController(buffer, 0.5, 0, 1, 100, 10);
+        AtomicInteger calls = new AtomicInteger();
+        controller.setBacklogHandler(calls::incrementAndGet);
+        for (int i = 0; i < 9; i++) {
+            buffer.produce("item-" + i);
+        }
+
+        long now = System.nanoTime();
+        synchronized (controller) {
+            for (int i = 1; i <= FlowController.BACKLOG_INTERVALS; i++) {
+                controller.adjust(now + i * 10 * MS);
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Verify a latency target tightens the occupancy target")
+    void verifyLatencyTarget() throws InterruptedException {
+        CircularBuffer<String> buffer = new CircularBuffer<>(100);
+        // Drain ~100 items/s with a 100 ms latency budget allows ~10 queued items, well under 50%
+        FlowController controller = new FlowController(buffer, 0.5, 100, 1, 1_000, 100);
+        long now = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            controller.reserve(now);
+        }
+        synchronized (controller) {
+            controller.adjust(now + 100 * MS); // Nothing queued: drain rate is 100 items/s
+        }
+        double before = controller.getRate();
+
+        for (int i = 0; i < 20; i++) {
+            buffer.produce("item-" + i);
+        }
+        for (int i = 0; i < 30; i++) {
+            controller.reserve(now + 100 * MS);
+        }
+        synchronized (controller) {
+            controller.adjust(now + 200 * MS); // 20% full is under 50%, but over the latency budget
+        }
+        assertTrue(controller.getRate() < before);
+    }
+
+    @Test
+    @DisplayName("Verify validation")
+    void verifyValidation() {
+        CircularBuffer<String> buffer = new CircularBuffer<>(10);
+        assertThrows(IllegalArgumentException.class, () -> new FlowController(null, 0.5, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new FlowController(buffer, 1.0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new FlowController(buffer, 0.5, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FlowController(buffer, 0.5, -1, 1, 10, 50));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new FlowController(buffer, 0.5, 0, 1, 10, 0));
+        assertTrue(e.getMessage().contains("must be positive"), e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new TaskProducer(buffer, 1, "P", null));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify paced producers deliver every item to the consumer")
+    void verifyPacedProducers() throws InterruptedException {
+        ConditionBuffer<String> buffer = new ConditionBuffer<>(20);
+        FlowController controller = new FlowController(buffer, 0.5, 200, 2_000);
+        TaskProducer p1 = new TaskProducer(buffer, 100, "P1", controller);
+        TaskProducer p2 = new TaskProducer(buffer, 100, "P2", controller);
+        TaskConsumer consumer = new TaskConsumer(buffer, 200, 1, "C1");
+
+        assertTrue(SimulationRunner.runAll(SimulationRunner.ThreadMode.PLATFORM,
+                List.of(p1, p2, consumer), 10, TimeUnit.SECONDS));
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,130 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: InstrumentedBuffer and BufferMetrics")
+class InstrumentedBufferTest {
+
+    @Test
+    @DisplayName("Verify produced/consumed counts and occupancy are recorded")
+    void verifyCounters() throws InterruptedException {
+        InstrumentedBuffer<String> buffer = new InstrumentedBuffer<>(new CircularBuffer<>(5));
+
+        buffer.produce("A");
+        buffer.produce("B");
+        buffer.produceAll(Arrays.asList("C", "D"));
+        assertEquals("A", buffer.consume());
+        buffer.drainTo(new ArrayList<>(), 10);
+
+        BufferMetrics.Snapshot snapshot = buffer.getMetrics().snapshot();
+        assertEquals(4, snapshot.getItemsProduced());
+        assertEquals(4, snapshot.getItemsConsumed());
+        assertEquals(0, snapshot.getProducerWaitCount());
+        assertEquals(4, snapshot.getOccupancy().getMax());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify end-of-stream drains and consumes record no latency or occupancy sample")
+    void verifyEndOfStreamNotSampled() throws InterruptedException {
+        InstrumentedBuffer<String> buffer = new InstrumentedBuffer<>(new CircularBuffer<>(5));
+        buffer.produce("A");
+        buffer.close();
+
+        assertEquals(1, buffer.drainTo(new ArrayList<>(), 10));
+        assertEquals(0, buffer.drainTo(new ArrayList<>(), 10));
+        assertEquals(0, buffer.drainTo(new ArrayList<>(), 10));
+        assertNull(buffer.consume());
+
+        BufferMetrics.Snapshot snapshot = buffer.getMetrics().snapshot();
+        assertEquals(1, snapshot.getItemsConsumed());
+        assertEquals(1, snapshot.getConsumeLatency().getCount());
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify time blocked on an empty buffer is recorded as a consumer wait")
+    void verifyConsumerWait() throws InterruptedException {
+        InstrumentedBuffer<String> buffer = new InstrumentedBuffer<>(new ConditionBuffer<>(2));
+
+        Thread producerThread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                buffer.produce("Late");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producerThread.start();
+        assertEquals("Late", buffer.consume());
+        producerThread.join();
+
+        BufferMetrics.Snapshot snapshot = buffer.getMetrics().snapshot();
+        assertEquals(1, snapshot.getConsumerWaitCount());
+        assertTrue(snapshot.getConsumerWaitNanos() >= 50_000_000L, "Wait time too short: " + snapshot);
+    }
+
+    @Test
+    @DisplayName("Verify ElasticBuffer resizes are counted")
+    void verifyResizeMetrics() throws InterruptedException {
+        InstrumentedBuffer<String> buffer = new InstrumentedBuffer<>(new ElasticBuffer<>(4));
+        for (int i = 0; i < 30; i++) {
+            buffer.produce("Item-" + i);
+        }
+        assertEquals(4, buffer.getMetrics().getResizeCount()); // 4 -> 8 -> 16 -> 32 -> 64
+        assertEquals(64, buffer.getBufferLimit());
+    }
+
+    @Test
+    @DisplayName("Verify disabled metrics record nothing")
+    void verifyDisabled() throws InterruptedException {
+        BufferMetrics metrics = new BufferMetrics(false);
+        InstrumentedBuffer<String> buffer = new InstrumentedBuffer<>(new CircularBuffer<>(3), metrics);
+        buffer.produce("A");
+        buffer.consume();
+        assertEquals(0, metrics.getItemsProduced());
+        assertEquals(0, metrics.getItemsConsumed());
+    }
+
+    @Test
+    @DisplayName("Verify histogram percentiles stay within bucket precision")
+    void verifyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(500.5, snapshot.getMean(), 0.001);
+        long p50 = snapshot.getValueAtPercentile(50);
+        long p99 = snapshot.getValueAtPercentile(99);
+        assertTrue(p50 >= 500 && p50 <= 500 * 1.125, "p50=" + p50);
+        assertTrue(p99 >= 990 && p99 <= 1000, "p99=" + p99);
+    }
+
+    @Test
+    @DisplayName("Verify metrics are exposed over JMX")
+    void verifyJmxRegistration() throws Exception {
+        InstrumentedBuffer<String> buffer = new InstrumentedBuffer<>(new CircularBuffer<>(3));
+        buffer.produce("A");
+
+        ObjectName name = buffer.getMetrics().registerMBean("jmx-test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, server.getAttribute(name, "ItemsProduced"));
+        } finally {
+            buffer.getMetrics().unregisterMBean("jmx-test");
+        }
+    }
+}
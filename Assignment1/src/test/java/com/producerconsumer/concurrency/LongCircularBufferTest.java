@@ -0,0 +1,177 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Unit Tests: LongCircularBuffer (Primitive Longs)")
+class LongCircularBufferTest {
+
+    private LongCircularBuffer buffer;
+    private static final int INITIAL_CAPACITY = 5;
+
+    @BeforeEach
+    void init() {
+        buffer = new LongCircularBuffer(INITIAL_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Verify FIFO ordering across wrap-around")
+    void verifyCircularWrapping() throws InterruptedException {
+        for (long i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce(i);
+        }
+        assertTrue(buffer.isFull());
+        assertFalse(buffer.offer(99L));
+        assertEquals(0L, buffer.consumeLong());
+        assertEquals(1L, buffer.consumeLong());
+
+        buffer.produceAll(new long[]{10L, 11L, 12L}, 2);
+
+        long[] drained = new long[8];
+        assertEquals(5, buffer.drainTo(drained, drained.length));
+        assertArrayEquals(new long[]{2L, 3L, 4L, 10L, 11L}, Arrays.copyOf(drained, 5));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify the boxed AbstractBuffer contract still works")
+    void verifyBoxedContract() throws InterruptedException {
+        buffer.produce(Long.valueOf(7L));
+        buffer.produceAll(Arrays.asList(8L, 9L));
+
+        assertEquals(Long.valueOf(7L), buffer.consume());
+        List<Long> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+        assertEquals(Arrays.asList(8L, 9L), drained);
+
+        assertNull(buffer.poll());
+        assertNull(buffer.poll(20, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> buffer.produce((Long) null));
+    }
+
+    @Test
+    @DisplayName("Verify batch argument validation")
+    void verifyBatchValidation() {
+        assertThrows(IllegalArgumentException.class, () -> buffer.produceAll(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> buffer.produceAll(new long[2], 3));
+        assertThrows(IllegalArgumentException.class, () -> buffer.drainTo(new long[2], 0));
+        assertThrows(IllegalArgumentException.class, () -> buffer.drainTo(new long[2], 3));
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify timed offer gives up when the buffer stays full")
+    void verifyTimedOffer() throws InterruptedException {
+        for (long i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce(i);
+        }
+        assertFalse(buffer.offer(42L, 50, TimeUnit.MILLISECONDS));
+        buffer.consumeLong();
+        assertTrue(buffer.offer(42L, 50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Verify primitive handoff does not allocate per item")
+    void verifyNoPerItemAllocation() throws InterruptedException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        LongCircularBuffer large = new LongCircularBuffer(64);
+        long[] scratch = new long[64];
+        cycle(large, scratch, 10_000); // warm-up
+
+        long tid = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(tid);
+        cycle(large, scratch, 100_000);
+        long allocated = threads.getThreadAllocatedBytes(tid) - before;
+
+        // Boxing 100k values beyond the Long cache would allocate well over a megabyte
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify workers hand every sequence ID over exactly once")
+    void verifyWorkers() throws InterruptedException {
+        LongCircularBuffer shared = new LongCircularBuffer(16);
+        int perProducer = 5_000;
+
+        LongProducer single = new LongProducer(shared, 0, perProducer, "P1");
+        LongProducer batched = new LongProducer(shared, perProducer, perProducer, "P2", 32);
+        LongConsumer c1 = new LongConsumer(shared, perProducer, "C1");
+        LongConsumer c2 = new LongConsumer(shared, perProducer, "C2", 16);
+
+        assertTrue(SimulationRunner.runAll(SimulationRunner.ThreadMode.PLATFORM,
+                Arrays.asList(single, batched, c1, c2), 10, TimeUnit.SECONDS));
+
+        long n = 2L * perProducer;
+        assertEquals(perProducer, c1.getConsumedCount());
+        assertEquals(perProducer, c2.getConsumedCount());
+        assertEquals(n * (n - 1) / 2, c1.getChecksum() + c2.getChecksum());
+        assertTrue(shared.isEmpty());
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify close ends the stream for the primitive and boxed APIs")
+    void verifyClose() throws InterruptedException {
+        buffer.produce(7L);
+        buffer.produce(8L);
+        buffer.close();
+
+        assertThrows(IllegalStateException.class, () -> buffer.produce(9L));
+        assertThrows(IllegalStateException.class, () -> buffer.offer(9L));
+        assertEquals(7L, buffer.consumeLong());
+        long[] scratch = new long[4];
+        assertEquals(1, buffer.drainTo(scratch, 4));
+        assertEquals(8L, scratch[0]);
+
+        assertEquals(0, buffer.drainTo(scratch, 4));
+        assertNull(buffer.consume());
+        assertThrows(NoSuchElementException.class, buffer::consumeLong);
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify consumers with an unreachable target stop once the buffer is closed and drained")
+    void verifyWorkersStopOnClose() throws InterruptedException {
+        LongCircularBuffer shared = new LongCircularBuffer(16);
+        LongConsumer single = new LongConsumer(shared, Integer.MAX_VALUE, "C1");
+        LongConsumer batched = new LongConsumer(shared, Integer.MAX_VALUE, "C2", 8);
+        Thread c1 = new Thread(single);
+        Thread c2 = new Thread(batched);
+        c1.start();
+        c2.start();
+
+        new LongProducer(shared, 0, 1_000, "P1", 32).run();
+        shared.close();
+        c1.join(5000);
+        c2.join(5000);
+
+        assertFalse(c1.isAlive() || c2.isAlive());
+        assertEquals(1_000, single.getConsumedCount() + batched.getConsumedCount());
+        assertEquals(999L * 1_000 / 2, single.getChecksum() + batched.getChecksum());
+    }
+
+    private static void cycle(LongCircularBuffer target, long[] scratch, int items) throws InterruptedException {
+        for (int i = 0; i < items; i += scratch.length) {
+            for (int j = 0; j < scratch.length; j++) {
+                target.produce(1_000_000L + i + j);
+            }
+            target.drainTo(scratch, scratch.length);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: MappedRingBuffer (Off-Heap, Cross-Process)")
+class MappedRingBufferTest {
+
+    private static final int CAPACITY = 4;
+    private static final int MAX_RECORD = 32;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Verify FIFO ordering of variable-length records across wrap-around")
+    void verifyCircularWrapping() throws Exception {
+        MappedRingBuffer buffer = open("wrap.ring");
+        for (int i = 0; i < CAPACITY; i++) {
+            buffer.produce(bytes("rec-" + i));
+        }
+        assertTrue(buffer.isFull());
+        assertFalse(buffer.offer(bytes("overflow")));
+
+        assertEquals("rec-0", text(buffer.consume()));
+        assertEquals("rec-1", text(buffer.consume()));
+        buffer.produce(bytes("a much longer record"));
+        buffer.produce(new byte[0]);
+
+        assertEquals("rec-2", text(buffer.consume()));
+        assertEquals("rec-3", text(buffer.consume()));
+        assertEquals("a much longer record", text(buffer.consume()));
+        assertEquals(0, buffer.consume().length);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+        assertNull(buffer.poll(20, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Verify queued records survive reopening the file")
+    void verifySurvivesRestart() throws Exception {
+        MappedRingBuffer first = open("restart.ring");
+        first.produce(bytes("one"));
+        first.produce(bytes("two"));
+        first.produce(bytes("three"));
+        assertEquals("one", text(first.consume()));
+        first.force();
+
+        MappedRingBuffer reopened = open("restart.ring");
+        assertEquals(2, reopened.getCurrentCount());
+        assertEquals("two", text(reopened.consume()));
+        assertEquals("three", text(reopened.consume()));
+        assertTrue(reopened.isEmpty());
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify closeStream is recorded in the file and ends the stream for the other mapping")
+    void verifyCloseAcrossMappings() throws Exception {
+        MappedRingBuffer producer = open("closed.ring");
+        MappedRingBuffer consumer = open("closed.ring");
+        producer.produce(bytes("last"));
+        producer.closeStream();
+
+        assertThrows(IllegalStateException.class, () -> producer.produce(bytes("late")));
+        assertTrue(consumer.isClosed());
+        assertEquals("last", text(consumer.consume()));
+        assertNull(consumer.consume());
+        assertNull(consumer.poll(1, TimeUnit.SECONDS));
+        assertNull(consumer.consumeInPlace(record -> fail("Reader must not run at end of stream")));
+
+        // Reopening does not resurrect a finished stream
+        assertTrue(open("closed.ring").isClosed());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify a consumer can close its handle and reopen while the producer keeps publishing")
+    void verifyConsumerRestartDoesNotEndStream() throws Exception {
+        MappedRingBuffer producerSide = open("restart-consumer.ring");
+        int items = 500;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < items; i++) {
+                    producerSide.produce(bytes("item-" + i));
+                }
+                producerSide.closeStream();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        producer.start();
+
+        // Each handle takes a few records and is closed, like a consumer process restarting
+        int next = 0;
+        while (next < items) {
+            try (MappedRingBuffer consumerSide = open("restart-consumer.ring")) {
+                for (int i = 0; i < 25 && next < items; i++, next++) {
+                    assertEquals("item-" + next, text(consumerSide.consume()));
+                }
+            }
+        }
+        producer.join();
+        assertNull(failure.get());
+
+        // Only the producer's closeStream() ended the stream
+        try (MappedRingBuffer consumerSide = open("restart-consumer.ring")) {
+            assertTrue(consumerSide.isClosed());
+            assertNull(consumerSide.consume());
+        }
+    }
+
+    @Test
+    @DisplayName("Verify closing a handle ends nothing for the other mapping")
+    void verifyHandleCloseIsLocal() throws Exception {
+        MappedRingBuffer producer = open("local.ring");
+        MappedRingBuffer consumer = open("local.ring");
+
+        consumer.close();
+        assertTrue(consumer.isClosed());
+        assertFalse(producer.isClosed());
+        producer.produce(bytes("still open"));
+        assertFalse(open("local.ring").isClosed());
+        assertEquals("still open", text(open("local.ring").consume()));
+    }
+
+    @Test
+    @DisplayName("Verify in-place reads see the record without copying it out")
+    void verifyConsumeInPlace() throws Exception {
+        MappedRingBuffer buffer = open("inplace.ring");
+        buffer.produce(ByteBuffer.wrap(new byte[]{0, 0, 0, 42}));
+
+        int value = buffer.consumeInPlace(view -> {
+            assertTrue(view.isReadOnly());
+            assertEquals(4, view.remaining());
+            return view.getInt();
+        });
+        assertEquals(42, value);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify invalid records and mismatched files are rejected")
+    void verifyValidation() throws Exception {
+        MappedRingBuffer buffer = open("checks.ring");
+        assertThrows(IllegalArgumentException.class, () -> buffer.produce((byte[]) null));
+        assertThrows(IllegalArgumentException.class, () -> buffer.offer(new byte[MAX_RECORD + 1]));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedRingBuffer(dir.resolve("checks.ring"), CAPACITY * 2, MAX_RECORD));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedRingBuffer(dir.resolve("checks.ring"), CAPACITY, MAX_RECORD * 2));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify handoff between two independent mappings of the same file")
+    void verifyCrossMappingHandoff() throws Exception {
+        // Two mappings behave like two processes: they share nothing but the file
+        MappedRingBuffer producerSide = open("shared.ring");
+        MappedRingBuffer consumerSide = open("shared.ring");
+        int items = 2_000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < items; i++) {
+                    producerSide.produce(bytes("item-" + i));
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        producer.start();
+
+        for (int i = 0; i < items; i++) {
+            assertEquals("item-" + i, text(consumerSide.consume()));
+        }
+        producer.join();
+        assertNull(failure.get());
+        assertTrue(producerSide.isEmpty());
+    }
+
+    private MappedRingBuffer open(String name) throws IOException {
+        return new MappedRingBuffer(dir.resolve(name), CAPACITY, MAX_RECORD, WaitStrategy.YIELD);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,154 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: MpmcRingBuffer (Lock-free MPMC)")
+class MpmcRingBufferTest {
+
+    private MpmcRingBuffer<String> buffer;
+    private static final int INITIAL_CAPACITY = 8;
+
+    @BeforeEach
+    void init() {
+        buffer = new MpmcRingBuffer<>(INITIAL_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Verify capacity is rounded up to a power of two")
+    void verifyCapacityRounding() {
+        assertEquals(8, new MpmcRingBuffer<String>(5).getBufferLimit());
+        assertEquals(8, new MpmcRingBuffer<String>(8).getBufferLimit());
+        assertEquals(2, new MpmcRingBuffer<String>(1).getBufferLimit());
+    }
+
+    @Test
+    @DisplayName("Verify FIFO ordering and full state across laps")
+    void verifyFifoAcrossLaps() throws InterruptedException {
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < INITIAL_CAPACITY; i++) {
+                buffer.produce(lap + "-" + i);
+            }
+            assertTrue(buffer.isFull());
+            for (int i = 0; i < INITIAL_CAPACITY; i++) {
+                assertEquals(lap + "-" + i, buffer.consume());
+            }
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Verify drainTo takes at most maxItems in order")
+    void verifyDrainTo() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            buffer.produce("Item-" + i);
+        }
+        List<String> drained = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertEquals(List.of("Item-0", "Item-1", "Item-2"), drained);
+        assertEquals(List.of("Item-3", "Item-4"), buffer.consume(10));
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify offer/poll without blocking and with timeouts")
+    void verifyOfferPoll() throws InterruptedException {
+        assertNull(buffer.poll());
+        assertNull(buffer.poll(20, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            assertTrue(buffer.offer("Data-" + i));
+        }
+        assertFalse(buffer.offer("Overflow"));
+        assertFalse(buffer.offer("Overflow", 20, TimeUnit.MILLISECONDS));
+        assertEquals("Data-0", buffer.poll());
+    }
+
+    @Test
+    @DisplayName("Verify Null rejection")
+    void verifyNullSafety() {
+        assertThrows(IllegalArgumentException.class, () -> buffer.produce(null));
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify producer blocks when full")
+    void verifyProducerBlocking() throws InterruptedException {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce("Filler");
+        }
+
+        Thread producerThread = new Thread(() -> {
+            try {
+                buffer.produce("BlockedItem");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        producerThread.start();
+        Thread.sleep(100);
+        assertTrue(producerThread.isAlive());
+
+        buffer.consume();
+
+        producerThread.join(1000);
+        assertFalse(producerThread.isAlive());
+        assertTrue(buffer.isFull());
+    }
+
+    @Test
+    @Timeout(20)
+    @DisplayName("Verify every item is delivered exactly once with 4 producers and 4 consumers")
+    void verifyExactlyOnceUnderContention() throws InterruptedException {
+        MpmcRingBuffer<Integer> ring = new MpmcRingBuffer<>(16);
+        int producers = 4;
+        int consumers = 4;
+        int itemsPerProducer = 20_000;
+        int total = producers * itemsPerProducer;
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * itemsPerProducer;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < itemsPerProducer; i++) {
+                        ring.produce(base + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < total / consumers; i++) {
+                        seen.incrementAndGet(ring.consume());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "Item " + i + " delivered wrong number of times");
+        }
+        assertTrue(ring.isEmpty());
+    }
+}
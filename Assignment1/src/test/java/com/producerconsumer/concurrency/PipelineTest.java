@@ -0,0 +1,144 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: Pipeline (Shared Ring, Stage Dependencies)")
+class PipelineTest {
+
+    // Each stage writes its own field, so downstream stages can check upstream ones ran first
+    static final class Order {
+        long raw;
+        long parsed;
+        long price;
+        long tax;
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify fan-out and fan-in see upstream results for every event")
+    void verifyDependencyGraph() throws InterruptedException {
+        int items = 20_000;
+        AtomicInteger outOfOrder = new AtomicInteger();
+        AtomicLong persistedTotal = new AtomicLong();
+        List<Long> persistOrder = new ArrayList<>();
+
+        Pipeline.Builder<Order> builder = Pipeline.builder(64, Order::new);
+        Pipeline.Stage parse = builder.stage("parse", (order, seq) -> order.parsed = order.raw * 2);
+        // Fan-out: both enrichers see every parsed order; pricing is split across 3 workers
+        Pipeline.Stage price = builder.stage("price", 3, (order, seq) -> {
+            if (order.parsed != order.raw * 2) {
+                outOfOrder.incrementAndGet();
+            }
+            order.price = order.parsed + 1;
+        }, parse);
+        Pipeline.Stage tax = builder.stage("tax", (order, seq) -> {
+            if (order.parsed != order.raw * 2) {
+                outOfOrder.incrementAndGet();
+            }
+            order.tax = order.parsed / 2;
+        }, parse);
+        // Fan-in: persist waits for both enrichers
+        builder.stage("persist", (order, seq) -> {
+            if (order.price != order.raw * 2 + 1 || order.tax != order.raw) {
+                outOfOrder.incrementAndGet();
+            }
+            persistedTotal.addAndGet(order.raw);
+            persistOrder.add(order.raw);
+        }, price, tax);
+        Pipeline<Order> pipeline = builder.build();
+
+        pipeline.start(SimulationRunner.threadFactory(SimulationRunner.ThreadMode.PLATFORM, "stage-"));
+        for (int i = 0; i < items; i++) {
+            final long raw = i;
+            pipeline.produce(order -> order.raw = raw);
+        }
+        assertTrue(pipeline.shutdown(5, TimeUnit.SECONDS));
+
+        assertEquals(0, outOfOrder.get());
+        assertEquals((long) items * (items - 1) / 2, persistedTotal.get());
+        assertEquals(items, persistOrder.size());
+        for (int i = 0; i < items; i++) {
+            assertEquals(i, persistOrder.get(i)); // A single-worker stage sees events in sequence order
+        }
+        for (Pipeline.Stage stage : pipeline.getStages()) {
+            assertEquals(items, stage.getProcessedSequence());
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify concurrent producers publishing out of order are all processed")
+    void verifyMultipleProducers() throws InterruptedException {
+        AtomicLong total = new AtomicLong();
+        Pipeline.Builder<Order> builder = Pipeline.builder(16, Order::new);
+        builder.stage("sum", (order, seq) -> total.addAndGet(order.raw));
+        Pipeline<Order> pipeline = builder.waitStrategy(WaitStrategy.PARK).build();
+        pipeline.start(SimulationRunner.threadFactory(SimulationRunner.ThreadMode.PLATFORM, "stage-"));
+
+        int perProducer = 5_000;
+        List<Runnable> producers = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            producers.add(() -> {
+                try {
+                    for (int i = 1; i <= perProducer; i++) {
+                        final long value = i;
+                        pipeline.produce(order -> order.raw = value);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertTrue(SimulationRunner.runAll(SimulationRunner.ThreadMode.PLATFORM, producers, 10, TimeUnit.SECONDS));
+        assertTrue(pipeline.shutdown(5, TimeUnit.SECONDS));
+
+        assertEquals(4L * perProducer * (perProducer + 1) / 2, total.get());
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify a failing handler is counted and does not stall downstream stages")
+    void verifyHandlerFailure() throws InterruptedException {
+        AtomicInteger persisted = new AtomicInteger();
+        Pipeline.Builder<Order> builder = Pipeline.builder(8, Order::new);
+        Pipeline.Stage validate = builder.stage("validate", (order, seq) -> {
+            if (order.raw < 0) {
+                throw new IllegalStateException("negative");
+            }
+        });
+        builder.stage("persist", (order, seq) -> persisted.incrementAndGet(), validate);
+        Pipeline<Order> pipeline = builder.build();
+        pipeline.start(SimulationRunner.threadFactory(SimulationRunner.ThreadMode.PLATFORM, "stage-"));
+
+        for (int i = 0; i < 20; i++) {
+            final long raw = i % 5 == 0 ? -1 : i;
+            pipeline.produce(order -> order.raw = raw);
+        }
+        assertTrue(pipeline.shutdown(2, TimeUnit.SECONDS));
+
+        assertEquals(4, validate.getFailedCount());
+        assertEquals(20, persisted.get());
+    }
+
+    @Test
+    @DisplayName("Verify builder validation")
+    void verifyBuilderValidation() {
+        Pipeline.Builder<Order> builder = Pipeline.builder(8, Order::new);
+        assertThrows(IllegalStateException.class, builder::build);
+
+        Pipeline.Stage foreign = Pipeline.builder(8, Order::new).stage("other", (order, seq) -> { });
+        assertThrows(IllegalArgumentException.class, () -> builder.stage("bad", (order, seq) -> { }, foreign));
+        assertThrows(IllegalArgumentException.class, () -> builder.stage("bad", 0, (order, seq) -> { }));
+        assertThrows(IllegalArgumentException.class, () -> Pipeline.<Order>builder(8, null));
+    }
+}
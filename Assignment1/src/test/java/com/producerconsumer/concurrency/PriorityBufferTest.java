@@ -0,0 +1,136 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: PriorityBuffer (Weighted-Fair Lanes)")
+class PriorityBufferTest {
+
+    private static final int URGENT = 0;
+    private static final int BULK = 1;
+
+    private PriorityBuffer<String> buffer;
+
+    @BeforeEach
+    void init() {
+        buffer = new PriorityBuffer<>(100, new int[]{4, 1});
+    }
+
+    @Test
+    @DisplayName("Verify an urgent item overtakes a bulk backlog")
+    void verifyUrgentOvertakesBacklog() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            buffer.produce("bulk-" + i); // Untagged items land in the lowest lane
+        }
+        buffer.produce("urgent", URGENT);
+
+        assertEquals(1, buffer.getLaneSize(URGENT));
+        assertEquals("urgent", buffer.consume());
+        assertEquals("bulk-0", buffer.consume());
+    }
+
+    @Test
+    @DisplayName("Verify both backlogged lanes are served in proportion to their weights")
+    void verifyWeightedShares() throws InterruptedException {
+        for (int i = 0; i < 40; i++) {
+            buffer.produce("u-" + i, URGENT);
+            buffer.produce("b-" + i, BULK);
+        }
+
+        List<String> firstTwenty = new ArrayList<>();
+        buffer.drainTo(firstTwenty, 20);
+        long bulkServed = firstTwenty.stream().filter(item -> item.startsWith("b-")).count();
+        assertEquals(4, bulkServed, "Weights 4:1 should give bulk one removal in five");
+
+        // FIFO within each lane
+        List<String> urgentOrder = new ArrayList<>();
+        firstTwenty.stream().filter(item -> item.startsWith("u-")).forEach(urgentOrder::add);
+        assertEquals(Arrays.asList("u-0", "u-1", "u-2", "u-3"), urgentOrder.subList(0, 4));
+    }
+
+    @Test
+    @DisplayName("Verify the bulk lane is never starved by a steady urgent stream")
+    void verifyNoStarvation() throws InterruptedException {
+        buffer.produce("bulk", BULK);
+        int removalsBeforeBulk = 0;
+        while (true) {
+            buffer.produce("urgent", URGENT); // Keep the urgent lane non-empty
+            if (buffer.consume().equals("bulk")) {
+                break;
+            }
+            removalsBeforeBulk++;
+            assertTrue(removalsBeforeBulk < 10, "Bulk item starved");
+        }
+    }
+
+    @Test
+    @DisplayName("Verify the classifier routes untagged items and capacity is shared")
+    void verifyClassifierAndCapacity() throws InterruptedException {
+        PriorityBuffer<String> classified = new PriorityBuffer<>(3, new int[]{2, 1},
+                item -> item.startsWith("!") ? URGENT : BULK, false);
+        classified.produce("bulk");
+        classified.produce("!alarm");
+        assertTrue(classified.offer("bulk-2", URGENT));
+        assertTrue(classified.isFull());
+        assertFalse(classified.offer("!late"));
+        assertFalse(classified.offer("!late", URGENT, 20, TimeUnit.MILLISECONDS));
+
+        assertEquals("!alarm", classified.consume());
+        assertEquals(1, classified.getLaneSize(URGENT));
+    }
+
+    @Test
+    @DisplayName("Verify validation")
+    void verifyValidation() {
+        assertThrows(IllegalArgumentException.class, () -> buffer.produce("x", 2));
+        assertThrows(IllegalArgumentException.class, () -> buffer.offer(null, URGENT));
+        assertThrows(IllegalArgumentException.class, () -> new PriorityBuffer<String>(10, new int[]{1, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new PriorityBuffer<String>(10, new int[0]));
+    }
+
+    @Test
+    @DisplayName("Verify default lanes halve their share from one lane to the next")
+    void verifyDefaultWeights() throws InterruptedException {
+        PriorityBuffer<Integer> defaults = new PriorityBuffer<>(30, PriorityBuffer.DEFAULT_LANES);
+        for (int i = 0; i < 10; i++) {
+            for (int lane = 0; lane < PriorityBuffer.DEFAULT_LANES; lane++) {
+                defaults.produce(lane, lane);
+            }
+        }
+
+        // One full round of weights 4:2:1
+        int[] served = new int[PriorityBuffer.DEFAULT_LANES];
+        for (int i = 0; i < 7; i++) {
+            served[defaults.consume()]++;
+        }
+        assertArrayEquals(new int[]{4, 2, 1}, served);
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify TaskProducer tags its items with a priority lane")
+    void verifyProducerTagging() throws InterruptedException {
+        TaskProducer urgent = new TaskProducer(buffer, 5, 1, "Ctl", OverflowPolicy.BLOCK, 0, URGENT);
+        TaskProducer bulk = new TaskProducer(buffer, 5, 1, "Bulk");
+        urgent.run();
+        bulk.run();
+
+        assertEquals(5, buffer.getLaneSize(URGENT));
+        assertEquals(5, buffer.getLaneSize(BULK));
+        assertEquals(URGENT, urgent.getPriority());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new TaskProducer(new CircularBuffer<String>(4), 1, 1, "P", OverflowPolicy.BLOCK, 0, URGENT));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TaskProducer(buffer, 1, 1, "P", OverflowPolicy.BLOCK, 0, 5));
+    }
+}
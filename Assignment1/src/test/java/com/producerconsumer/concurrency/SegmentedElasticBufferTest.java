@@ -0,0 +1,92 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: SegmentedElasticBuffer (Linked Chunks)")
+class SegmentedElasticBufferTest {
+
+    private SegmentedElasticBuffer<String> buffer;
+    private static final int CHUNK_SIZE = 4;
+    private static final int MAX_CAPACITY = 32;
+
+    @BeforeEach
+    void setup() {
+        buffer = new SegmentedElasticBuffer<>(CHUNK_SIZE, MAX_CAPACITY, 2, false);
+    }
+
+    @Test
+    @DisplayName("Verify initial state is a single chunk")
+    void verifyStartUp() {
+        assertEquals(CHUNK_SIZE, buffer.getBufferLimit());
+        assertTrue(buffer.isEmpty());
+        assertFalse(buffer.isFull());
+    }
+
+    @Test
+    @DisplayName("Verify growth links chunks and keeps FIFO order")
+    void verifyGrowthPreservesOrder() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            buffer.produce("Item-" + i);
+        }
+        // 10 items need 3 chunks of 4
+        assertEquals(12, buffer.getBufferLimit());
+        assertEquals(10, buffer.getCurrentCount());
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Item-" + i, buffer.consume());
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify drained chunks are unlinked, pooled and reused")
+    void verifyChunkRecycling() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            buffer.produce("Burst-" + i);
+        }
+        assertEquals(20, buffer.getBufferLimit());
+        buffer.consume(20);
+
+        // Back to one linked chunk; the pool keeps at most 2 of the 4 drained ones
+        assertEquals(CHUNK_SIZE, buffer.getBufferLimit());
+        assertEquals(2, buffer.getPooledChunks());
+
+        for (int i = 0; i < 8; i++) {
+            buffer.produce("Next-" + i);
+        }
+        assertEquals(1, buffer.getPooledChunks());
+        assertEquals("Next-0", buffer.consume());
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify producers block at max capacity")
+    void verifyMaxCapacityBlocking() throws InterruptedException {
+        for (int i = 0; i < MAX_CAPACITY; i++) {
+            buffer.produce("Filler-" + i);
+        }
+        assertTrue(buffer.isFull());
+        assertFalse(buffer.offer("Overflow"));
+
+        Thread producerThread = new Thread(() -> {
+            try {
+                buffer.produce("Blocked");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producerThread.start();
+        Thread.sleep(100);
+        assertTrue(producerThread.isAlive());
+
+        assertEquals("Filler-0", buffer.consume());
+        producerThread.join(1000);
+        assertFalse(producerThread.isAlive());
+        assertTrue(buffer.isFull());
+    }
+}
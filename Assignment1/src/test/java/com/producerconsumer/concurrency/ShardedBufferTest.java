@@ -0,0 +1,167 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Tests: ShardedBuffer (Work Stealing)")
+class ShardedBufferTest {
+
+    @Test
+    @DisplayName("Verify capacity spans all shards and a lone thread can use every slot")
+    void verifyCapacityAcrossShards() throws InterruptedException {
+        ShardedBuffer<Integer> buffer = new ShardedBuffer<>(4, 2);
+        assertEquals(8, buffer.getBufferLimit());
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertTrue(buffer.isFull());
+        assertFalse(buffer.offer(99));
+        assertFalse(buffer.offer(99, 20, TimeUnit.MILLISECONDS));
+
+        // Items in other shards are reached by stealing
+        int sum = 0;
+        for (int i = 0; i < 8; i++) {
+            sum += buffer.consume();
+        }
+        assertEquals(28, sum);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+        assertNull(buffer.poll(20, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Verify a pinned producer blocks on its own shard in FIFO mode")
+    void verifyFifoPinsProducer() {
+        ShardedBuffer<Integer> buffer = new ShardedBuffer<>(4, 2, true);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3)); // Home shard is full even though others are empty
+        assertEquals(2, buffer.getCurrentCount());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify per-producer FIFO order survives stealing")
+    void verifyPerProducerFifo() throws InterruptedException {
+        ShardedBuffer<long[]> buffer = new ShardedBuffer<>(4, 8, true);
+        int producers = 4;
+        int perProducer = 2_000;
+        AtomicInteger violations = new AtomicInteger();
+
+        List<Runnable> workers = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final long producer = p;
+            workers.add(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        buffer.produce(new long[]{producer, i});
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        // A single consumer, so the order it takes items in is the order they left the buffer
+        workers.add(() -> {
+            long[] lastSeen = new long[producers];
+            Arrays.fill(lastSeen, -1);
+            try {
+                for (int i = 0; i < producers * perProducer; i++) {
+                    long[] item = buffer.consume();
+                    if (item[1] != lastSeen[(int) item[0]] + 1) {
+                        violations.incrementAndGet();
+                    }
+                    lastSeen[(int) item[0]] = item[1];
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(SimulationRunner.runAll(SimulationRunner.ThreadMode.PLATFORM, workers, 10, TimeUnit.SECONDS));
+        assertEquals(0, violations.get());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Verify many producers and consumers hand over every item exactly once")
+    void verifyConcurrentHandoff() throws InterruptedException {
+        ShardedBuffer<Integer> buffer = new ShardedBuffer<>(4, 4);
+        int pairs = 8;
+        int perProducer = 5_000;
+        AtomicLong sum = new AtomicLong();
+
+        List<Runnable> workers = new ArrayList<>();
+        for (int p = 0; p < pairs; p++) {
+            workers.add(() -> {
+                try {
+                    for (int i = 1; i <= perProducer; i++) {
+                        buffer.produce(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            workers.add(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        sum.addAndGet(buffer.consume());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        assertTrue(SimulationRunner.runAll(SimulationRunner.ThreadMode.PLATFORM, workers, 10, TimeUnit.SECONDS));
+        assertEquals((long) pairs * perProducer * (perProducer + 1) / 2, sum.get());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Verify a blocked consumer is woken by a producer on another shard")
+    void verifyBlockedConsumerWakes() throws InterruptedException {
+        ShardedBuffer<String> buffer = new ShardedBuffer<>(4, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> received = new ArrayList<>();
+
+        Thread consumer = new Thread(() -> {
+            started.countDown();
+            try {
+                received.add(buffer.consume());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        started.await();
+        Thread.sleep(50);
+
+        buffer.produce("wake-up");
+        consumer.join(2_000);
+        assertFalse(consumer.isAlive());
+        assertEquals(List.of("wake-up"), received);
+    }
+
+    @Test
+    @DisplayName("Verify constructor validation")
+    void verifyValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedBuffer<String>(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedBuffer<String>(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedBuffer<String>(4, 4).produce(null));
+        assertTrue(new ShardedBuffer<String>(16).getBufferLimit() >= 16);
+    }
+}
@@ -3,7 +3,13 @@ package com.producerconsumer.concurrency;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayName("Integration Tests: Multi-threaded Scenarios")
 class SimulationTest {
@@ -127,6 +133,195 @@ class SimulationTest {
         assertTrue(buffer.getBufferLimit() > 2, "Buffer did not resize! Consumer might have been too fast.");
     }
 
+    @Test
+    @DisplayName("Scenario: Batch consumers draining one shared buffer")
+    void testBatchConsumers() throws InterruptedException {
+        AbstractBuffer<String> buffer = new CircularBuffer<>(8);
+
+        Thread p1 = new Thread(new TaskProducer(buffer, 20, 0, "P1"));
+        Thread p2 = new Thread(new TaskProducer(buffer, 20, 0, "P2"));
+        Thread c1 = new Thread(new TaskConsumer(buffer, 20, 0, "BatchC1", 4));
+        Thread c2 = new Thread(new TaskConsumer(buffer, 20, 0, "BatchC2", 4));
+
+        startAll(p1, p2, c1, c2);
+        joinAll(p1, p2, c1, c2);
+
+        assertFalse(c1.isAlive(), "Batch consumer stuck");
+        assertFalse(c2.isAlive(), "Batch consumer stuck");
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Scenario: Overflow policies when no consumer is draining")
+    void testOverflowPolicies() throws InterruptedException {
+        AbstractBuffer<String> dropNewest = new CircularBuffer<>(3);
+        TaskProducer newest = new TaskProducer(dropNewest, 10, 1, "DropNew", OverflowPolicy.DROP_NEWEST, 0);
+        newest.run();
+        assertEquals(7, newest.getDroppedCount());
+        assertEquals("DropNew-Data-1", dropNewest.consume());
+
+        AbstractBuffer<String> dropOldest = new CircularBuffer<>(3);
+        TaskProducer oldest = new TaskProducer(dropOldest, 10, 1, "DropOld", OverflowPolicy.DROP_OLDEST, 0);
+        oldest.run();
+        assertEquals(7, oldest.getDroppedCount());
+        assertEquals("DropOld-Data-8", dropOldest.consume());
+
+        AbstractBuffer<String> callerRuns = new CircularBuffer<>(3);
+        TaskProducer inline = new TaskProducer(callerRuns, 10, 1, "Inline", OverflowPolicy.CALLER_RUNS, 5);
+        inline.run();
+        assertEquals(7, inline.getInlineCount());
+        assertTrue(callerRuns.isFull());
+    }
+
+    @Test
+    @DisplayName("Scenario: CALLER_RUNS hands every item that does not fit to the producer's handler")
+    void testCallerRunsProcessesInline() {
+        AbstractBuffer<String> buffer = new CircularBuffer<>(3);
+        List<String> handled = new ArrayList<>();
+        List<String> threads = new ArrayList<>();
+        List<String> inlineEvents = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        buffer.setEventListener(new BufferEventListener() {
+            @Override public void onItemProcessedInline(String id, Object item) { inlineEvents.add((String) item); }
+            @Override public void onItemRejected(String id, Object item, OverflowPolicy policy) { rejected.add((String) item); }
+        });
+        TaskProducer producer = new TaskProducer(buffer, 10, 1, "Inline", 0, item -> {
+            handled.add(item);
+            threads.add(Thread.currentThread().getName());
+        });
+
+        producer.run();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 4; i <= 10; i++) {
+            expected.add("Inline-Data-" + i);
+        }
+        assertEquals(expected, handled);
+        assertEquals(expected, inlineEvents);
+        assertTrue(rejected.isEmpty(), "Inline items are not rejections");
+        assertTrue(threads.stream().allMatch(Thread.currentThread().getName()::equals));
+        assertEquals(7, producer.getInlineCount());
+        assertEquals(0, producer.getDroppedCount());
+        assertEquals(3, buffer.getCurrentCount());
+        assertThrows(IllegalArgumentException.class, () -> new TaskProducer(buffer, 1, 1, "P", 0, null));
+    }
+
+    @Test
+    @DisplayName("Scenario: DROP_OLDEST is refused on buffers whose poll() is not a FIFO eviction")
+    void testDropOldestNeedsFifoBuffer() {
+        List<AbstractBuffer<?>> unsupported = List.of(
+                new SpscRingBuffer<String>(4),
+                new PriorityBuffer<String>(4, 2),
+                new ShardedBuffer<String>(4, 2),
+                new InstrumentedBuffer<>(new SpscRingBuffer<String>(4)));
+        for (AbstractBuffer<?> buffer : unsupported) {
+            assertFalse(buffer.canEvictOldest(), buffer.getClass().getSimpleName());
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TaskProducer(buffer, 1, 1, "P", OverflowPolicy.DROP_OLDEST, 0));
+            // The other policies never poll, so they are still fine
+            new TaskProducer(buffer, 1, 1, "P", OverflowPolicy.DROP_NEWEST, 0);
+        }
+
+        assertTrue(new MpmcRingBuffer<String>(4).canEvictOldest());
+        assertTrue(new InstrumentedBuffer<>(new ConditionBuffer<String>(4)).canEvictOldest());
+    }
+
+    @Test
+    @DisplayName("Scenario: Runner on platform threads with a lock-based buffer")
+    void testRunnerPlatformMode() throws InterruptedException {
+        AbstractBuffer<String> buffer = new ConditionBuffer<>(4);
+        List<Runnable> workers = new ArrayList<>();
+        workers.add(new TaskProducer(buffer, 10, 1, "RP1"));
+        workers.add(new TaskProducer(buffer, 10, 1, "RP2"));
+        workers.add(new TaskConsumer(buffer, 20, 0, "RC1"));
+
+        assertTrue(SimulationRunner.runAll(SimulationRunner.ThreadMode.PLATFORM, workers, 10, TimeUnit.SECONDS));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Scenario: 10k producers on virtual threads (Java 21+)")
+    void testRunnerVirtualMode() throws InterruptedException {
+        assumeTrue(SimulationRunner.isVirtualThreadSupported(), "Virtual threads need Java 21+");
+
+        int producers = 10_000;
+        AbstractBuffer<Integer> buffer = new SegmentedElasticBuffer<>(64, 256);
+        AtomicInteger consumed = new AtomicInteger();
+        List<Runnable> workers = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            workers.add(() -> {
+                try {
+                    Thread.sleep(5);
+                    buffer.produce(id);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        workers.add(() -> {
+            try {
+                while (consumed.get() < producers) {
+                    consumed.addAndGet(buffer.consume(64).size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(SimulationRunner.runAll(SimulationRunner.ThreadMode.VIRTUAL, workers, 30, TimeUnit.SECONDS));
+        assertEquals(producers, consumed.get());
+    }
+
+    @Test
+    @DisplayName("Scenario: Open-ended consumers exit once the buffer is closed")
+    void testCloseEndsOpenEndedConsumers() throws InterruptedException {
+        AbstractBuffer<String> buffer = new ConditionBuffer<>(4);
+
+        // Neither consumer knows how many items will arrive
+        TaskConsumer open = new TaskConsumer(buffer, 0, "C1");
+        TaskConsumer batched = new TaskConsumer(buffer, Integer.MAX_VALUE, 0, "C2", 3);
+        Thread c1 = new Thread(open);
+        Thread c2 = new Thread(batched);
+        Thread p1 = new Thread(new TaskProducer(buffer, 10, 1, "P1"));
+        Thread p2 = new Thread(new TaskProducer(buffer, 10, 1, "P2"));
+
+        startAll(p1, p2, c1, c2);
+        joinAll(p1, p2);
+        buffer.close();
+        joinAll(c1, c2);
+
+        assertFalse(c1.isAlive() || c2.isAlive(), "Consumers should not be left blocked");
+        assertEquals(20, open.getConsumedCount() + batched.getConsumedCount());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Scenario: Producers stop early when the buffer is closed under them")
+    void testCloseStopsBlockedProducers() throws InterruptedException {
+        AbstractBuffer<String> buffer = new CircularBuffer<>(2);
+
+        // No consumer: both producers fill the buffer and block until close()
+        Thread p1 = new Thread(new TaskProducer(buffer, 100, 1, "P1"));
+        Thread p2 = new Thread(new TaskProducer(buffer, 100, 1, "P2"));
+        startAll(p1, p2);
+        Thread.sleep(200);
+
+        buffer.close();
+        joinAll(p1, p2);
+
+        assertFalse(p1.isAlive() || p2.isAlive(), "Producers should not be left blocked");
+        assertEquals(2, buffer.getCurrentCount());
+    }
+
+    @Test
+    @DisplayName("Scenario: Virtual mode is rejected cleanly before Java 21")
+    void testVirtualModeUnsupported() {
+        assumeTrue(!SimulationRunner.isVirtualThreadSupported());
+        assertThrows(UnsupportedOperationException.class,
+                () -> SimulationRunner.threadFactory(SimulationRunner.ThreadMode.VIRTUAL, "v-"));
+    }
+
     // Helper methods to reduce boilerplate
     private void startAll(Thread... threads) {
         for (Thread t : threads) t.start();
@@ -0,0 +1,170 @@
+package com.producerconsumer.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Unit Tests: SpscRingBuffer (Lock-free 1P/1C)")
+class SpscRingBufferTest {
+
+    private SpscRingBuffer<String> buffer;
+    private static final int INITIAL_CAPACITY = 5;
+
+    @BeforeEach
+    void init() {
+        buffer = new SpscRingBuffer<>(INITIAL_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Verify initialization state")
+    void verifyInitialization() {
+        assertEquals(INITIAL_CAPACITY, buffer.getBufferLimit());
+        assertEquals(0, buffer.getCurrentCount());
+        assertTrue(buffer.isEmpty());
+        assertFalse(buffer.isFull());
+    }
+
+    @Test
+    @DisplayName("Verify capacity is exact even though slots are a power of two")
+    void verifyExactCapacity() throws InterruptedException {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce("Data-" + i);
+        }
+        assertTrue(buffer.isFull());
+        assertEquals(INITIAL_CAPACITY, buffer.getCurrentCount());
+    }
+
+    @Test
+    @DisplayName("Verify FIFO ordering across wrap-around")
+    void verifyCircularWrapping() throws InterruptedException {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce("Old-" + i);
+        }
+        buffer.consume();
+        buffer.consume();
+        buffer.produce("New-A");
+        buffer.produce("New-B");
+
+        assertEquals("Old-2", buffer.consume());
+        assertEquals("Old-3", buffer.consume());
+        assertEquals("Old-4", buffer.consume());
+        assertEquals("New-A", buffer.consume());
+        assertEquals("New-B", buffer.consume());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify drainTo releases a whole batch of slots at once")
+    void verifyDrainTo() throws InterruptedException {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce("Item-" + i);
+        }
+        List<String> drained = new ArrayList<>();
+        assertEquals(INITIAL_CAPACITY, buffer.drainTo(drained, 10));
+        assertEquals("Item-0", drained.get(0));
+        assertEquals("Item-4", drained.get(4));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify offer/poll without blocking and with timeouts")
+    void verifyOfferPoll() throws InterruptedException {
+        assertNull(buffer.poll());
+        assertNull(buffer.poll(20, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            assertTrue(buffer.offer("Data-" + i));
+        }
+        assertFalse(buffer.offer("Overflow"));
+        assertFalse(buffer.offer("Overflow", 20, TimeUnit.MILLISECONDS));
+        assertEquals("Data-0", buffer.poll());
+    }
+
+    @Test
+    @DisplayName("Verify Null rejection")
+    void verifyNullSafety() {
+        assertThrows(IllegalArgumentException.class, () -> buffer.produce(null));
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify producer blocks when full and resumes after consume")
+    void verifyProducerBlocking() throws InterruptedException {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            buffer.produce("Filler");
+        }
+
+        Thread producerThread = new Thread(() -> {
+            try {
+                buffer.produce("BlockedItem");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        producerThread.start();
+        Thread.sleep(100);
+        assertTrue(producerThread.isAlive());
+
+        buffer.consume();
+
+        producerThread.join(1000);
+        assertFalse(producerThread.isAlive());
+        assertTrue(buffer.isFull());
+    }
+
+    @Test
+    @Timeout(2)
+    @DisplayName("Verify a waiting consumer can be interrupted")
+    void verifyInterruptWhileEmpty() throws InterruptedException {
+        Thread consumerThread = new Thread(() -> {
+            assertThrows(InterruptedException.class, () -> buffer.consume());
+        });
+
+        consumerThread.start();
+        Thread.sleep(100);
+        consumerThread.interrupt();
+
+        consumerThread.join(1000);
+        assertFalse(consumerThread.isAlive());
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    @Timeout(10)
+    @DisplayName("Verify ordered handoff of many items for each wait strategy")
+    void verifyConcurrentHandoff(WaitStrategy strategy) throws InterruptedException {
+        // Busy-spinning both threads on a single core only makes progress once per time slice
+        assumeTrue(strategy != WaitStrategy.SPIN || Runtime.getRuntime().availableProcessors() > 1);
+
+        SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(16, strategy);
+        int total = 100_000;
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < total; i++) {
+                    ring.produce(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        for (int i = 0; i < total; i++) {
+            assertEquals(i, ring.consume());
+        }
+        producer.join();
+        assertTrue(ring.isEmpty());
+    }
+}
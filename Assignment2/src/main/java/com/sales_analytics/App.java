@@ -1,7 +1,8 @@
 package com.sales_analytics;
 
 import com.sales_analytics.model.Sale;
-import com.sales_analytics.service.SalesAnalysisService;
+import com.sales_analytics.service.SalesReport;
+import com.sales_analytics.service.SalesReportEngine;
 import com.sales_analytics.util.CsvLoader;
 
 import java.io.IOException;
@@ -14,32 +15,33 @@ public class App {
         try {
             System.out.println("Loading data...");
             List<Sale> sales = CsvLoader.loadSalesFromResource("sales_data.csv");
-            SalesAnalysisService service = new SalesAnalysisService(sales);
+            // Every aggregate below comes from this single pass over the data
+            SalesReport report = SalesReportEngine.all().run(sales);
 
             System.out.println("\n--- Sales Analysis Report ---");
 
             // 1. Total Revenue
-            double totalRevenue = service.calculateTotalRevenue();
+            double totalRevenue = report.getTotalRevenue();
             System.out.printf("Total Revenue: $%.2f%n", totalRevenue);
 
             // 2. Revenue by Region
             System.out.println("\nRevenue by Region:");
-            Map<String, Double> regionRevenue = service.getRevenueByRegion();
+            Map<String, Double> regionRevenue = report.getRevenueByRegion();
             regionRevenue.forEach((region, revenue) ->
                     System.out.printf("  %s: $%.2f%n", region, revenue));
 
             // 3. Unique Products
-            System.out.println("\nUnique Products List: " + service.getUniqueProducts());
+            System.out.println("\nUnique Products List: " + report.getUniqueProducts());
 
             // 4. Average Quantity for Electronics
-            double avgElec = service.getAverageQuantityByCategory("Electronics");
+            double avgElec = report.getAverageQuantityByCategory("Electronics");
             System.out.printf("\nAvg Quantity per 'Electronics' Transaction: %.2f%n", avgElec);
 
             // 5. Highest Value Sale
-            Optional<Sale> topSale = service.findHighestValueSale();
+            Optional<Sale> topSale = report.getHighestValueSale();
             topSale.ifPresent(s -> System.out.println("\nHighest Value Sale: " + s));
             //6. Max Sale By Category
-            Map<String, Optional<Sale>> maxByCategory = service.getMaxSaleByCategory();
+            Map<String, Optional<Sale>> maxByCategory = report.getMaxSaleByCategory();
             maxByCategory.forEach((category, saleOpt) -> {
                 String saleInfo = saleOpt
                         .map(s -> String.format("%s ($%.2f)", s.getProduct(), s.getTotalRevenue()))
@@ -0,0 +1,176 @@
+package com.sales_analytics.model;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * Column-oriented storage for sales: one primitive array per field instead of one object per row.
+ * <p>
+ * Region, category and product names are dictionary-encoded: each distinct name is stored once
+ * and rows hold its int code. Dates are stored as epoch days. A row costs 32 bytes, against about
+ * 80 for a {@link Sale}, its {@link LocalDate} and the list slot pointing to it, and a scan over
+ * one column reads contiguous memory.
+ * <p>
+ * Rows are appended with {@link #accept} (so a table can be filled straight from
+ * {@code CsvLoader.forEachSale}) and read back column by column. {@link #getSale} rebuilds a row
+ * as a {@link Sale} when a caller needs one.
+ */
+public class SalesTable implements Consumer<Sale> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Dictionary regions = new Dictionary();
+    private final Dictionary categories = new Dictionary();
+    private final Dictionary products = new Dictionary();
+
+    private int size;
+    private int[] ids;
+    private int[] epochDays;
+    private int[] regionCodes;
+    private int[] categoryCodes;
+    private int[] productCodes;
+    private int[] quantities;
+    private double[] unitPrices;
+
+    public SalesTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public SalesTable(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative.");
+        }
+        ids = new int[initialCapacity];
+        epochDays = new int[initialCapacity];
+        regionCodes = new int[initialCapacity];
+        categoryCodes = new int[initialCapacity];
+        productCodes = new int[initialCapacity];
+        quantities = new int[initialCapacity];
+        unitPrices = new double[initialCapacity];
+    }
+
+    public static SalesTable of(Collection<Sale> sales) {
+        SalesTable table = new SalesTable(sales.size());
+        sales.forEach(table);
+        return table;
+    }
+
+    // Builds a table from a stream or from the chunks of a ParallelCsvLoader, keeping row order
+    public static Collector<Sale, SalesTable, SalesTable> collector() {
+        return Collector.of(SalesTable::new, SalesTable::accept, SalesTable::append,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    @Override
+    public void accept(Sale sale) {
+        if (sale == null || sale.getDate() == null) {
+            throw new IllegalArgumentException("Sale and its date cannot be null.");
+        }
+        ensureCapacity(size + 1);
+        ids[size] = sale.getId();
+        epochDays[size] = Math.toIntExact(sale.getDate().toEpochDay());
+        regionCodes[size] = regions.encode(sale.getRegion());
+        categoryCodes[size] = categories.encode(sale.getCategory());
+        productCodes[size] = products.encode(sale.getProduct());
+        quantities[size] = sale.getQuantity();
+        unitPrices[size] = sale.getUnitPrice();
+        size++;
+    }
+
+    /**
+     * Appends every row of {@code other} after the rows of this table, re-encoding its names
+     * into this table's dictionaries.
+     */
+    public SalesTable append(SalesTable other) {
+        ensureCapacity(size + other.size);
+        int[] regionMap = regions.encodeAll(other.regions);
+        int[] categoryMap = categories.encodeAll(other.categories);
+        int[] productMap = products.encodeAll(other.products);
+        System.arraycopy(other.ids, 0, ids, size, other.size);
+        System.arraycopy(other.epochDays, 0, epochDays, size, other.size);
+        System.arraycopy(other.quantities, 0, quantities, size, other.size);
+        System.arraycopy(other.unitPrices, 0, unitPrices, size, other.size);
+        for (int i = 0; i < other.size; i++) {
+            regionCodes[size + i] = regionMap[other.regionCodes[i]];
+            categoryCodes[size + i] = categoryMap[other.categoryCodes[i]];
+            productCodes[size + i] = productMap[other.productCodes[i]];
+        }
+        size += other.size;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Sale getSale(int row) {
+        Objects.checkIndex(row, size);
+        return new Sale(ids[row], LocalDate.ofEpochDay(epochDays[row]), regions.decode(regionCodes[row]),
+                categories.decode(categoryCodes[row]), products.decode(productCodes[row]),
+                quantities[row], unitPrices[row]);
+    }
+
+    // Column accessors: the arrays are shared, not copied, and only the first size() slots are rows
+
+    public int[] ids() { return ids; }
+    public int[] epochDays() { return epochDays; }
+    public int[] regionCodes() { return regionCodes; }
+    public int[] categoryCodes() { return categoryCodes; }
+    public int[] productCodes() { return productCodes; }
+    public int[] quantities() { return quantities; }
+    public double[] unitPrices() { return unitPrices; }
+
+    // Dictionaries: code i decodes to element i, in order of first appearance
+
+    public List<String> regions() { return regions.values(); }
+    public List<String> categories() { return categories.values(); }
+    public List<String> products() { return products.values(); }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, Math.max(INITIAL_CAPACITY, ids.length + (ids.length >> 1)));
+        ids = Arrays.copyOf(ids, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        regionCodes = Arrays.copyOf(regionCodes, capacity);
+        categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+        productCodes = Arrays.copyOf(productCodes, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+        unitPrices = Arrays.copyOf(unitPrices, capacity);
+    }
+
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        // Codes in this dictionary for every code of other
+        int[] encodeAll(Dictionary other) {
+            int[] mapping = new int[other.values.size()];
+            for (int i = 0; i < mapping.length; i++) {
+                mapping[i] = encode(other.values.get(i));
+            }
+            return mapping;
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+
+        List<String> values() {
+            return Collections.unmodifiableList(values);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sales_analytics.service;
+
+/**
+ * The aggregates a {@link SalesReportEngine} can compute, one per {@link SalesAnalysisService} query.
+ */
+public enum Aggregate {
+    TOTAL_REVENUE,
+    REVENUE_BY_REGION,
+    UNIQUE_PRODUCTS,
+    AVERAGE_QUANTITY_BY_CATEGORY,
+    HIGHEST_VALUE_SALE,
+    TOP_SALE_BY_CATEGORY
+}
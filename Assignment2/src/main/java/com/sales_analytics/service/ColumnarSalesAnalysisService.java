@@ -0,0 +1,162 @@
+package com.sales_analytics.service;
+
+import com.sales_analytics.model.Sale;
+import com.sales_analytics.model.SalesTable;
+
+import java.util.*;
+
+/**
+ * {@link SalesAnalysisService} over a {@link SalesTable}.
+ * <p>
+ * Every query is a plain loop over the primitive columns it needs. Grouped results are
+ * accumulated in arrays indexed by dictionary code, and names are only looked up once per group
+ * when the result map is built. Results match the stream-based service exactly: sums repeat the
+ * compensated summation of {@code DoubleStream.sum()} step for step, and ties for the highest sale keep the earlier row.
+ */
+public class ColumnarSalesAnalysisService extends SalesAnalysisService {
+
+    private final SalesTable table;
+
+    public ColumnarSalesAnalysisService(SalesTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table cannot be null.");
+        }
+        this.table = table;
+    }
+
+    public ColumnarSalesAnalysisService(List<Sale> salesData) {
+        this(SalesTable.of(salesData));
+    }
+
+    @Override
+    public double calculateTotalRevenue() {
+        int[] quantities = table.quantities();
+        double[] unitPrices = table.unitPrices();
+        double sum = 0;
+        double compensation = 0;
+        double simpleSum = 0;
+        for (int i = 0, n = table.size(); i < n; i++) {
+            double revenue = quantities[i] * unitPrices[i];
+            double y = revenue - compensation;
+            double t = sum + y;
+            compensation = (t - sum) - y;
+            sum = t;
+            simpleSum += revenue;
+        }
+        return finalSum(sum, compensation, simpleSum);
+    }
+
+    @Override
+    public List<String> getUniqueProducts() {
+        // Every dictionary entry belongs to at least one row
+        List<String> sorted = new ArrayList<>(table.products());
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Override
+    public Map<String, Double> getRevenueByRegion() {
+        int[] regionCodes = table.regionCodes();
+        int[] quantities = table.quantities();
+        double[] unitPrices = table.unitPrices();
+        List<String> regions = table.regions();
+        double[] sums = new double[regions.size()];
+        double[] compensations = new double[regions.size()];
+        double[] simpleSums = new double[regions.size()];
+        for (int i = 0, n = table.size(); i < n; i++) {
+            int code = regionCodes[i];
+            double revenue = quantities[i] * unitPrices[i];
+            double y = revenue - compensations[code];
+            double t = sums[code] + y;
+            compensations[code] = (t - sums[code]) - y;
+            sums[code] = t;
+            simpleSums[code] += revenue;
+        }
+
+        Map<String, Double> result = new HashMap<>();
+        for (int code = 0; code < sums.length; code++) {
+            result.put(regions.get(code), finalSum(sums[code], compensations[code], simpleSums[code]));
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Sale> findHighestValueSale() {
+        int[] quantities = table.quantities();
+        double[] unitPrices = table.unitPrices();
+        int best = -1;
+        double bestRevenue = 0;
+        for (int i = 0, n = table.size(); i < n; i++) {
+            double revenue = quantities[i] * unitPrices[i];
+            if (best < 0 || Double.compare(revenue, bestRevenue) > 0) {
+                best = i;
+                bestRevenue = revenue;
+            }
+        }
+        return best < 0 ? Optional.empty() : Optional.of(table.getSale(best));
+    }
+
+    @Override
+    public double getAverageQuantityByCategory(String category) {
+        // Resolve the case-insensitive match once per name instead of once per row
+        List<String> categories = table.categories();
+        boolean[] matches = new boolean[categories.size()];
+        boolean any = false;
+        for (int code = 0; code < matches.length; code++) {
+            matches[code] = categories.get(code).equalsIgnoreCase(category);
+            any |= matches[code];
+        }
+        if (!any) {
+            return 0.0;
+        }
+
+        int[] categoryCodes = table.categoryCodes();
+        int[] quantities = table.quantities();
+        long sum = 0;
+        long count = 0;
+        for (int i = 0, n = table.size(); i < n; i++) {
+            if (matches[categoryCodes[i]]) {
+                sum += quantities[i];
+                count++;
+            }
+        }
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    @Override
+    public Map<String, Optional<Sale>> getTopSaleByCategory() {
+        int[] categoryCodes = table.categoryCodes();
+        int[] quantities = table.quantities();
+        double[] unitPrices = table.unitPrices();
+        List<String> categories = table.categories();
+        int[] bestRows = new int[categories.size()];
+        double[] bestRevenues = new double[categories.size()];
+        Arrays.fill(bestRows, -1);
+        for (int i = 0, n = table.size(); i < n; i++) {
+            int code = categoryCodes[i];
+            double revenue = quantities[i] * unitPrices[i];
+            if (bestRows[code] < 0 || Double.compare(revenue, bestRevenues[code]) > 0) {
+                bestRows[code] = i;
+                bestRevenues[code] = revenue;
+            }
+        }
+
+        Map<String, Optional<Sale>> result = new HashMap<>();
+        for (int code = 0; code < bestRows.length; code++) {
+            result.put(categories.get(code), Optional.of(table.getSale(bestRows[code])));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Optional<Sale>> getMaxSaleByCategory() {
+        return getTopSaleByCategory();
+    }
+
+    // Same final step as DoubleStream.sum(): fold in the last correction, and fall back to the plain
+    // sum when same-signed infinities turned the compensated one into NaN
+    private static double finalSum(double sum, double compensation, double simpleSum) {
+        double result = sum - compensation;
+        return Double.isNaN(result) && Double.isInfinite(simpleSum) ? simpleSum : result;
+    }
+}
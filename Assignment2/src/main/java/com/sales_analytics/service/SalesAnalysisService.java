@@ -4,6 +4,7 @@ import com.sales_analytics.model.Sale;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 public class SalesAnalysisService {
@@ -14,6 +15,11 @@ public class SalesAnalysisService {
         this.salesData = salesData;
     }
 
+    // For subclasses that keep the sales in their own layout and override every query
+    protected SalesAnalysisService() {
+        this(Collections.emptyList());
+    }
+
 
     public double calculateTotalRevenue() {
         return salesData.stream()
@@ -68,4 +74,12 @@ public class SalesAnalysisService {
                         Collectors.maxBy(Comparator.comparingDouble(Sale::getTotalRevenue))
                 ));
     }
+
+    /**
+     * Computes every aggregate above in a single pass over {@code sales} without keeping the
+     * rows, so it works on streams far larger than the heap (e.g. {@code CsvLoader.streamSales}).
+     */
+    public static SalesSummary summarize(Stream<Sale> sales) {
+        return sales.collect(SalesSummary.collector());
+    }
 }
\ No newline at end of file
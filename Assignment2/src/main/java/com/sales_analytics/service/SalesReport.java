@@ -0,0 +1,79 @@
+package com.sales_analytics.service;
+
+import com.sales_analytics.model.Sale;
+
+import java.util.*;
+
+/**
+ * The result of one {@link SalesReportEngine} run. Getters answer like the matching
+ * {@link SalesAnalysisService} queries. Asking for an aggregate that was not requested is an
+ * {@link IllegalStateException}. The sale count is always available.
+ */
+public class SalesReport {
+
+    private final Set<Aggregate> aggregates;
+    private final SalesSummary summary;
+
+    SalesReport(Set<Aggregate> aggregates, SalesSummary summary) {
+        this.aggregates = Collections.unmodifiableSet(EnumSet.copyOf(aggregates));
+        this.summary = summary;
+    }
+
+    public Set<Aggregate> getAggregates() {
+        return aggregates;
+    }
+
+    public boolean contains(Aggregate aggregate) {
+        return aggregates.contains(aggregate);
+    }
+
+    public long getSaleCount() {
+        return summary.getSaleCount();
+    }
+
+    public double getTotalRevenue() {
+        require(Aggregate.TOTAL_REVENUE);
+        return summary.calculateTotalRevenue();
+    }
+
+    public Map<String, Double> getRevenueByRegion() {
+        require(Aggregate.REVENUE_BY_REGION);
+        return summary.getRevenueByRegion();
+    }
+
+    public List<String> getUniqueProducts() {
+        require(Aggregate.UNIQUE_PRODUCTS);
+        return summary.getUniqueProducts();
+    }
+
+    // Average quantity per category, keyed by the category names as they appear in the data
+    public Map<String, Double> getAverageQuantityByCategory() {
+        require(Aggregate.AVERAGE_QUANTITY_BY_CATEGORY);
+        return summary.getAverageQuantityByCategory();
+    }
+
+    public double getAverageQuantityByCategory(String category) {
+        require(Aggregate.AVERAGE_QUANTITY_BY_CATEGORY);
+        return summary.getAverageQuantityByCategory(category);
+    }
+
+    public Optional<Sale> getHighestValueSale() {
+        require(Aggregate.HIGHEST_VALUE_SALE);
+        return summary.findHighestValueSale();
+    }
+
+    public Map<String, Optional<Sale>> getTopSaleByCategory() {
+        require(Aggregate.TOP_SALE_BY_CATEGORY);
+        return summary.getTopSaleByCategory();
+    }
+
+    public Map<String, Optional<Sale>> getMaxSaleByCategory() {
+        return getTopSaleByCategory();
+    }
+
+    private void require(Aggregate aggregate) {
+        if (!aggregates.contains(aggregate)) {
+            throw new IllegalStateException(aggregate + " was not requested for this report.");
+        }
+    }
+}
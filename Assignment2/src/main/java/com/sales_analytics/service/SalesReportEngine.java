@@ -0,0 +1,58 @@
+package com.sales_analytics.service;
+
+import com.sales_analytics.model.Sale;
+
+import java.util.*;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Computes any set of {@link Aggregate}s in a single pass over the sales.
+ * <p>
+ * Calling the {@link SalesAnalysisService} queries one by one scans the data once per query.
+ * The engine folds every row into one {@link SalesSummary} that updates only the requested
+ * aggregates, then wraps it in a {@link SalesReport}.
+ * <p>
+ * For large inputs, {@link #runParallel} splits the rows across the common pool and merges the
+ * partial summaries. {@link #collector()} does the same for any stream, or for the chunks of a
+ * {@code ParallelCsvLoader}, without building a list first.
+ */
+public class SalesReportEngine {
+
+    private final Set<Aggregate> aggregates;
+
+    public SalesReportEngine(Set<Aggregate> aggregates) {
+        if (aggregates == null || aggregates.isEmpty()) {
+            throw new IllegalArgumentException("At least one aggregate must be requested.");
+        }
+        this.aggregates = EnumSet.copyOf(aggregates);
+    }
+
+    public SalesReportEngine(Aggregate first, Aggregate... rest) {
+        this(EnumSet.of(first, rest));
+    }
+
+    public static SalesReportEngine all() {
+        return new SalesReportEngine(EnumSet.allOf(Aggregate.class));
+    }
+
+    public SalesReport run(Iterable<Sale> sales) {
+        SalesSummary summary = new SalesSummary(aggregates);
+        sales.forEach(summary);
+        return new SalesReport(aggregates, summary);
+    }
+
+    // Sequential or parallel, following the stream
+    public SalesReport run(Stream<Sale> sales) {
+        return sales.collect(collector());
+    }
+
+    public SalesReport runParallel(Collection<Sale> sales) {
+        return run(sales.parallelStream());
+    }
+
+    public Collector<Sale, SalesSummary, SalesReport> collector() {
+        return Collector.of(() -> new SalesSummary(aggregates), SalesSummary::accept, SalesSummary::combine,
+                summary -> new SalesReport(aggregates, summary));
+    }
+}
@@ -0,0 +1,157 @@
+package com.sales_analytics.service;
+
+import com.sales_analytics.model.Sale;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * One-pass accumulator for every aggregate {@link SalesAnalysisService} offers.
+ * <p>
+ * Each sale is folded in as it arrives and then dropped. Only per-group state is kept (a running
+ * sum per region, quantity statistics and the top sale per category, the set of product names,
+ * and the single highest sale), so memory is bounded by the number of groups, not the number of rows.
+ * Sums use the same compensated summation as {@code DoubleStream.sum()}.
+ * <p>
+ * Summaries of separate chunks can be merged with {@link #combine}, which makes the class usable
+ * as a {@code Stream.collect} container, including for parallel streams. Ties for the highest
+ * sale keep the earlier sale, as {@code Stream.max} does.
+ * <p>
+ * A summary can be limited to some {@link Aggregate}s; the state of the others is then never
+ * touched, and their getters return empty results. Only summaries limited to the same aggregates
+ * should be combined.
+ */
+public class SalesSummary implements Consumer<Sale> {
+
+    private final DoubleSummaryStatistics revenue = new DoubleSummaryStatistics();
+    private final Map<String, DoubleSummaryStatistics> revenueByRegion = new HashMap<>();
+    private final Set<String> products = new HashSet<>();
+    private final Map<String, IntSummaryStatistics> quantityByCategory = new HashMap<>();
+    private final Map<String, Sale> topSaleByCategory = new HashMap<>();
+    private Sale highestValueSale;
+
+    private final boolean byRegion;
+    private final boolean byProduct;
+    private final boolean quantities;
+    private final boolean topByCategory;
+    private final boolean highest;
+
+    public SalesSummary() {
+        this(EnumSet.allOf(Aggregate.class));
+    }
+
+    public SalesSummary(Set<Aggregate> aggregates) {
+        // Flags rather than set lookups: they are checked for every row
+        byRegion = aggregates.contains(Aggregate.REVENUE_BY_REGION);
+        byProduct = aggregates.contains(Aggregate.UNIQUE_PRODUCTS);
+        quantities = aggregates.contains(Aggregate.AVERAGE_QUANTITY_BY_CATEGORY);
+        topByCategory = aggregates.contains(Aggregate.TOP_SALE_BY_CATEGORY);
+        highest = aggregates.contains(Aggregate.HIGHEST_VALUE_SALE);
+    }
+
+    // Collects a stream (or the chunks of a ParallelCsvLoader) straight into a summary
+    public static Collector<Sale, SalesSummary, SalesSummary> collector() {
+        return Collector.of(SalesSummary::new, SalesSummary::accept, SalesSummary::combine,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    @Override
+    public void accept(Sale sale) {
+        double total = sale.getTotalRevenue();
+        revenue.accept(total);
+        if (byRegion) {
+            revenueByRegion.computeIfAbsent(sale.getRegion(), k -> new DoubleSummaryStatistics()).accept(total);
+        }
+        if (byProduct) {
+            products.add(sale.getProduct());
+        }
+        if (quantities) {
+            quantityByCategory.computeIfAbsent(sale.getCategory(), k -> new IntSummaryStatistics())
+                    .accept(sale.getQuantity());
+        }
+        if (topByCategory) {
+            topSaleByCategory.merge(sale.getCategory(), sale, SalesSummary::higher);
+        }
+        if (highest) {
+            highestValueSale = highestValueSale == null ? sale : higher(highestValueSale, sale);
+        }
+    }
+
+    /**
+     * Folds {@code other} (covering later rows) into this summary.
+     */
+    public SalesSummary combine(SalesSummary other) {
+        revenue.combine(other.revenue);
+        other.revenueByRegion.forEach((region, stats) ->
+                revenueByRegion.computeIfAbsent(region, k -> new DoubleSummaryStatistics()).combine(stats));
+        products.addAll(other.products);
+        other.quantityByCategory.forEach((category, stats) ->
+                quantityByCategory.computeIfAbsent(category, k -> new IntSummaryStatistics()).combine(stats));
+        other.topSaleByCategory.forEach((category, sale) ->
+                topSaleByCategory.merge(category, sale, SalesSummary::higher));
+        if (other.highestValueSale != null) {
+            highestValueSale = highestValueSale == null ? other.highestValueSale
+                    : higher(highestValueSale, other.highestValueSale);
+        }
+        return this;
+    }
+
+    public long getSaleCount() {
+        return revenue.getCount();
+    }
+
+    public double calculateTotalRevenue() {
+        return revenue.getSum();
+    }
+
+    public List<String> getUniqueProducts() {
+        List<String> sorted = new ArrayList<>(products);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    public Map<String, Double> getRevenueByRegion() {
+        Map<String, Double> result = new HashMap<>();
+        revenueByRegion.forEach((region, stats) -> result.put(region, stats.getSum()));
+        return result;
+    }
+
+    public Optional<Sale> findHighestValueSale() {
+        return Optional.ofNullable(highestValueSale);
+    }
+
+    public double getAverageQuantityByCategory(String category) {
+        // Category names may differ in case between rows; the service matches them case-insensitively
+        long sum = 0;
+        long count = 0;
+        for (Map.Entry<String, IntSummaryStatistics> entry : quantityByCategory.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(category)) {
+                sum += entry.getValue().getSum();
+                count += entry.getValue().getCount();
+            }
+        }
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    public Map<String, Double> getAverageQuantityByCategory() {
+        Map<String, Double> result = new HashMap<>();
+        quantityByCategory.forEach((category, stats) -> result.put(category, stats.getAverage()));
+        return result;
+    }
+
+    public Map<String, Optional<Sale>> getTopSaleByCategory() {
+        Map<String, Optional<Sale>> result = new HashMap<>();
+        topSaleByCategory.forEach((category, sale) -> result.put(category, Optional.of(sale)));
+        return result;
+    }
+
+    public Map<String, Optional<Sale>> getMaxSaleByCategory() {
+        return getTopSaleByCategory();
+    }
+
+    // The later sale only wins if it is strictly higher
+    private static Sale higher(Sale earlier, Sale later) {
+        return Double.compare(later.getTotalRevenue(), earlier.getTotalRevenue()) > 0 ? later : earlier;
+    }
+}
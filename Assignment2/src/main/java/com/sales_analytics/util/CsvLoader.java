@@ -2,48 +2,65 @@ package com.sales_analytics.util;
 
 import com.sales_analytics.model.Sale;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.function.Function;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Loads sales from CSV files. Rows are parsed by {@link SaleParser}. By default a malformed row
+ * stops loading with an {@link IllegalArgumentException} that names its line. The overloads that
+ * take an error handler skip bad rows instead and report each one to it.
+ */
 public class CsvLoader {
 
     public static List<Sale> loadSalesFromResource(String fileName) throws IOException {
-        List<Sale> sales = new ArrayList<>();
+        try (Stream<Sale> sales = streamSalesFromResource(fileName)) {
+            return sales.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Lazily parses the CSV file at {@code file}: rows are read and mapped only as the stream is
+     * consumed, so memory use does not grow with the file size. The stream keeps the file open
+     * and must be closed (e.g. with try-with-resources). I/O errors while reading surface as
+     * {@link UncheckedIOException}.
+     */
+    public static Stream<Sale> streamSales(Path file) throws IOException {
+        return streamSales(file, SaleParser.FAIL_FAST);
+    }
+
+    public static Stream<Sale> streamSales(Path file, Consumer<? super MalformedRow> errorHandler)
+            throws IOException {
+        return new SaleParser(errorHandler).stream(Files.newInputStream(file));
+    }
 
+    // Same as streamSales(Path), for a file on the classpath
+    public static Stream<Sale> streamSalesFromResource(String fileName) throws IOException {
         InputStream is = CsvLoader.class.getClassLoader().getResourceAsStream(fileName);
         if (is == null) {
             throw new IOException("File not found: " + fileName);
         }
+        return new SaleParser().stream(is);
+    }
 
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-            // Skip header and map lines to Sale objects
-            sales = br.lines()
-                    .skip(1) // Skip CSV header
-                    .map(mapToSale)
-                    .collect(Collectors.toList());
-        }
-        return sales;
+    /**
+     * Push-based variant: parses {@code file} row by row, hands each sale to {@code action},
+     * and closes the file when done.
+     */
+    public static void forEachSale(Path file, Consumer<? super Sale> action) throws IOException {
+        forEachSale(file, action, SaleParser.FAIL_FAST);
     }
 
-    // Lambda to map a CSV line to a Sale object
-    private static Function<String, Sale> mapToSale = (line) -> {
-        String[] p = line.split(",");
-        return new Sale(
-                Integer.parseInt(p[0]),       // id
-                LocalDate.parse(p[1]),        // date
-                p[2],                         // region
-                p[3],                         // category
-                p[4],                         // product
-                Integer.parseInt(p[5]),       // quantity
-                Double.parseDouble(p[6])      // unitPrice
-        );
-    };
-}
\ No newline at end of file
+    public static void forEachSale(Path file, Consumer<? super Sale> action,
+                                   Consumer<? super MalformedRow> errorHandler) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            new SaleParser(errorHandler).parse(in, action);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.sales_analytics.util;
+
+/**
+ * A CSV row that could not be turned into a sale, with its 1-based line number in the file
+ * (the header is line 1).
+ */
+public class MalformedRow {
+
+    private final long lineNumber;
+    private final String line;
+    private final String reason;
+
+    public MalformedRow(long lineNumber, String line, String reason) {
+        this.lineNumber = lineNumber;
+        this.line = line;
+        this.reason = reason;
+    }
+
+    public long getLineNumber() { return lineNumber; }
+    public String getLine() { return line; }
+    public String getReason() { return reason; }
+
+    @Override
+    public String toString() {
+        return String.format("Line %d: %s: '%s'", lineNumber, reason, line);
+    }
+}
@@ -0,0 +1,241 @@
+package com.sales_analytics.util;
+
+import com.sales_analytics.model.Sale;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Loads a sales CSV file on all cores.
+ * <p>
+ * The file is cut into byte ranges that each end just after a line break, so no row straddles two
+ * chunks. Every chunk is memory-mapped and parsed by its own {@link SaleParser} on a
+ * {@link ForkJoinPool}, into its own collector container. The containers are then combined in
+ * file order. Collecting into a list gives exactly the sales, in exactly the order, that
+ * {@link CsvLoader} gives. Collecting into partial aggregates (e.g. {@code SalesSummary}) never
+ * builds the list at all.
+ * <p>
+ * Malformed rows are reported after parsing, in file order and with their line numbers in the
+ * whole file, so the error handler sees the same calls as with {@link CsvLoader}.
+ */
+public class ParallelCsvLoader {
+
+    // Chunks are small enough to keep every worker busy, big enough to amortize a mapping
+    public static final long MIN_CHUNK_SIZE = 1L << 20;
+    public static final long MAX_CHUNK_SIZE = 256L << 20;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    // Mapped bytes are copied into a window of this size and parsed from there
+    private static final int WINDOW_SIZE = 1 << 20;
+    private static final int SCAN_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final long chunkSize;
+
+    /**
+     * @param chunkSize bytes per chunk (rounded up to the next line break), at most
+     *                  {@link #MAX_CHUNK_SIZE}, or 0 to size chunks from the file size and the pool's
+     *                  parallelism
+     */
+    public ParallelCsvLoader(ForkJoinPool pool, long chunkSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null.");
+        }
+        if (chunkSize < 0) {
+            throw new IllegalArgumentException("Chunk size cannot be negative.");
+        }
+        // A single mapping cannot exceed 2 GB, and bigger chunks would starve the other workers
+        if (chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size cannot exceed " + MAX_CHUNK_SIZE + " bytes.");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public ParallelCsvLoader() {
+        this(ForkJoinPool.commonPool(), 0);
+    }
+
+    public List<Sale> loadSales(Path file) throws IOException {
+        return collect(file, Collectors.toList());
+    }
+
+    public <R> R collect(Path file, Collector<? super Sale, ?, R> collector) throws IOException {
+        return collect(file, collector, SaleParser.FAIL_FAST);
+    }
+
+    /**
+     * Parses {@code file} in parallel chunks and reduces every sale with {@code collector}.
+     * The collector's combiner is called in file order, left to right.
+     */
+    public <A, R> R collect(Path file, Collector<? super Sale, A, R> collector,
+                            Consumer<? super MalformedRow> errorHandler) throws IOException {
+        if (collector == null || errorHandler == null) {
+            throw new IllegalArgumentException("Collector and error handler cannot be null.");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<ForkJoinTask<Chunk<A>>> tasks = new ArrayList<>();
+            try {
+                for (long[] range : split(channel)) {
+                    tasks.add(pool.submit(() -> parseChunk(channel, range[0], range[1], collector)));
+                }
+
+                // Combine in file order; line 1 is the header
+                A result = null;
+                long linesBefore = 1;
+                for (ForkJoinTask<Chunk<A>> task : tasks) {
+                    Chunk<A> chunk = await(task);
+                    for (MalformedRow row : chunk.errors) {
+                        errorHandler.accept(new MalformedRow(linesBefore + row.getLineNumber() + 1,
+                                row.getLine(), row.getReason()));
+                    }
+                    linesBefore += chunk.lines;
+                    result = result == null ? chunk.container : collector.combiner().apply(result, chunk.container);
+                }
+                if (result == null) {
+                    result = collector.supplier().get();
+                }
+                return finish(collector, result);
+            } finally {
+                // Only does anything if we are leaving early with an error
+                for (ForkJoinTask<Chunk<A>> task : tasks) {
+                    task.cancel(false);
+                }
+            }
+        }
+    }
+
+    // Byte ranges of whole lines covering everything after the header
+    private List<long[]> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long dataStart = nextLineStart(channel, 0, size);
+        long target = chunkSize > 0 ? chunkSize : Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE,
+                (size - dataStart) / ((long) pool.getParallelism() * CHUNKS_PER_WORKER)));
+
+        List<long[]> ranges = new ArrayList<>();
+        long start = dataStart;
+        while (start < size) {
+            long end = size - start <= target ? size : nextLineStart(channel, start + target - 1, size);
+            ranges.add(new long[]{start, end});
+            start = end;
+        }
+        return ranges;
+    }
+
+    // Position just after the first '\n' at or after from, or size if there is none
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+        long position = from;
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    // Runs on a pool thread; line numbers in the returned errors are 0-based within the chunk
+    private static <A> Chunk<A> parseChunk(FileChannel channel, long from, long to,
+                                           Collector<? super Sale, A, ?> collector) throws IOException {
+        A container = collector.supplier().get();
+        BiConsumer<A, ? super Sale> accumulator = collector.accumulator();
+        Consumer<Sale> sink = sale -> accumulator.accept(container, sale);
+        List<MalformedRow> errors = new ArrayList<>();
+        SaleParser parser = new SaleParser(errors::add);
+
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        byte[] window = new byte[(int) Math.min(to - from, WINDOW_SIZE)];
+        int carried = 0; // Start of a line that did not fit in the previous window
+        long lines = 0;
+        while (mapped.hasRemaining()) {
+            if (carried == window.length) {
+                window = Arrays.copyOf(window, window.length * 2); // One line longer than the window
+            }
+            int read = Math.min(window.length - carried, mapped.remaining());
+            mapped.get(window, carried, read);
+            int filled = carried + read;
+
+            int lastNewline = filled - 1;
+            while (lastNewline >= 0 && window[lastNewline] != '\n') {
+                lastNewline--;
+            }
+            if (lastNewline < 0) {
+                carried = filled;
+                continue;
+            }
+            lines += parser.parse(window, 0, lastNewline + 1, lines, sink);
+            carried = filled - lastNewline - 1;
+            System.arraycopy(window, lastNewline + 1, window, 0, carried);
+        }
+        if (carried > 0) {
+            lines += parser.parse(window, 0, carried, lines, sink); // Last line of the file, no line break
+        }
+        return new Chunk<>(container, lines, errors);
+    }
+
+    private static <A> Chunk<A> await(ForkJoinTask<Chunk<A>> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, R> R finish(Collector<? super Sale, A, R> collector, A container) {
+        return collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)
+                ? (R) container
+                : collector.finisher().apply(container);
+    }
+
+    private static final class Chunk<A> {
+        final A container;
+        final long lines;
+        final List<MalformedRow> errors;
+
+        Chunk(A container, long lines, List<MalformedRow> errors) {
+            this.container = container;
+            this.lines = lines;
+            this.errors = errors;
+        }
+    }
+}
@@ -0,0 +1,503 @@
+package com.sales_analytics.util;
+
+import com.sales_analytics.model.Sale;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Allocation-light parser for the sales CSV format that works directly on bytes.
+ * <p>
+ * Fields are located in place in the input buffer; nothing is split or copied per field.
+ * Ints are parsed straight from their digits. Prices are read as a scaled fixed-point value and
+ * converted with one exact division, so the result is the same double {@code Double.parseDouble}
+ * gives. Dates are read as {@code yyyy-MM-dd} digits, and consecutive rows with the same date
+ * share one {@code LocalDate}. Region, category and product names are interned, so all rows
+ * with the same name share one String. Input outside these fast paths (exponents, a leading '+',
+ * very long numbers, other date forms) falls back to the JDK parsers, so the accepted values are
+ * exactly those the old {@code String.split} loader accepted.
+ * <p>
+ * A field may be quoted to contain commas, with {@code ""} for a literal quote, but a row
+ * cannot span lines. Blank lines are skipped. A row that cannot be parsed is reported to the
+ * error handler as a {@link MalformedRow} with its line number, and parsing continues with the
+ * next row. The default handler, {@link #FAIL_FAST}, throws instead.
+ * <p>
+ * A parser keeps per-instance caches and is not thread-safe; use one per thread.
+ */
+public class SaleParser {
+
+    public static final int FIELD_COUNT = 7;
+
+    // Default error handler: stop at the first bad row, naming it
+    public static final Consumer<MalformedRow> FAIL_FAST = row -> {
+        throw new IllegalArgumentException("Malformed CSV row. " + row);
+    };
+
+    private static final int INITIAL_BUFFER = 64 * 1024;
+    // 10^15 < 2^53, so a mantissa of up to 15 digits and its power-of-ten divisor are exact doubles
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+    // Stop interning past this many distinct names, so a free-text column can't grow the table forever
+    private static final int MAX_INTERNED = 1 << 16;
+
+    private final Consumer<? super MalformedRow> errorHandler;
+
+    // Bounds of the current row's fields; quoted fields exclude the quotes
+    private final int[] fieldStart = new int[FIELD_COUNT];
+    private final int[] fieldEnd = new int[FIELD_COUNT];
+    private final boolean[] fieldEscaped = new boolean[FIELD_COUNT];
+
+    // The field being converted; an escaped field is unescaped into scratch first
+    private byte[] source;
+    private int start;
+    private int end;
+    private byte[] scratch = new byte[64];
+
+    // Open-addressing intern table keyed by the name's bytes
+    private byte[][] internKeys = new byte[64][];
+    private int[] internHashes = new int[64];
+    private String[] internValues = new String[64];
+    private int internCount;
+
+    private final byte[] lastDateBytes = new byte[10];
+    private LocalDate lastDate;
+
+    public SaleParser(Consumer<? super MalformedRow> errorHandler) {
+        if (errorHandler == null) {
+            throw new IllegalArgumentException("Error handler cannot be null.");
+        }
+        this.errorHandler = errorHandler;
+    }
+
+    public SaleParser() {
+        this(FAIL_FAST);
+    }
+
+    /**
+     * Lazily parses {@code in}, skipping its header line. Closing the stream closes {@code in};
+     * read errors surface as {@link UncheckedIOException}.
+     */
+    public Stream<Sale> stream(InputStream in) {
+        RowReader reader = new RowReader(in);
+        Spliterator<Sale> rows = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Sale> action) {
+                try {
+                    Sale sale = reader.next();
+                    if (sale == null) {
+                        return false;
+                    }
+                    action.accept(sale);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false).onClose(() -> {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Parses every row of {@code in} after the header, handing each sale to {@code sink}.
+     * Does not close {@code in}.
+     */
+    public void parse(InputStream in, Consumer<? super Sale> sink) throws IOException {
+        RowReader reader = new RowReader(in);
+        Sale sale;
+        while ((sale = reader.next()) != null) {
+            sink.accept(sale);
+        }
+    }
+
+    /**
+     * Parses the rows in {@code buf[from, to)}, numbering them from {@code firstLineNumber}.
+     * Each row ends with {@code '\n'} (the last may not). No header is skipped.
+     *
+     * @return the number of lines seen, including blank and malformed ones
+     */
+    public long parse(byte[] buf, int from, int to, long firstLineNumber, Consumer<? super Sale> sink) {
+        long lines = 0;
+        int pos = from;
+        while (pos < to) {
+            int newline = indexOfNewline(buf, pos, to);
+            int lineEnd = newline < 0 ? to : newline;
+            Sale sale = parseLine(buf, pos, lineEnd, firstLineNumber + lines);
+            if (sale != null) {
+                sink.accept(sale);
+            }
+            lines++;
+            pos = lineEnd + 1;
+        }
+        return lines;
+    }
+
+    /**
+     * Parses one row held in {@code buf[from, to)} (without the line break).
+     *
+     * @return the sale, or null if the row is blank or was reported as malformed
+     */
+    public Sale parseLine(byte[] buf, int from, int to, long lineNumber) {
+        if (to > from && buf[to - 1] == '\r') {
+            to--; // CRLF line endings
+        }
+        if (to == from) {
+            return null;
+        }
+        try {
+            scanFields(buf, from, to);
+
+            int id = parseInt(buf, 0, "id");
+            LocalDate date = parseDate(buf, 1);
+            String region = parseName(buf, 2);
+            String category = parseName(buf, 3);
+            String product = parseName(buf, 4);
+            int quantity = parseInt(buf, 5, "quantity");
+            double unitPrice = parsePrice(buf, 6);
+            return new Sale(id, date, region, category, product, quantity, unitPrice);
+        } catch (RowException e) {
+            errorHandler.accept(new MalformedRow(lineNumber,
+                    new String(buf, from, to - from, StandardCharsets.UTF_8), e.getMessage()));
+            return null;
+        }
+    }
+
+    // Records the bounds of the first FIELD_COUNT fields; any further fields are ignored, as before
+    private void scanFields(byte[] buf, int from, int to) throws RowException {
+        int pos = from;
+        int field = 0;
+        while (field < FIELD_COUNT) {
+            if (pos < to && buf[pos] == '"') {
+                boolean escaped = false;
+                int contentStart = ++pos;
+                while (true) {
+                    if (pos >= to) {
+                        throw new RowException("Unterminated quoted field " + (field + 1));
+                    }
+                    if (buf[pos] == '"') {
+                        if (pos + 1 < to && buf[pos + 1] == '"') {
+                            escaped = true;
+                            pos += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    pos++;
+                }
+                fieldStart[field] = contentStart;
+                fieldEnd[field] = pos;
+                fieldEscaped[field] = escaped;
+                pos++; // Closing quote
+                if (pos < to && buf[pos] != ',') {
+                    throw new RowException("Unexpected character after quoted field " + (field + 1));
+                }
+            } else {
+                int fieldFrom = pos;
+                while (pos < to && buf[pos] != ',') {
+                    pos++;
+                }
+                fieldStart[field] = fieldFrom;
+                fieldEnd[field] = pos;
+                fieldEscaped[field] = false;
+            }
+            field++;
+            if (pos >= to) {
+                break;
+            }
+            pos++; // Comma
+        }
+        if (field < FIELD_COUNT) {
+            throw new RowException("Expected " + FIELD_COUNT + " fields but found " + field);
+        }
+    }
+
+    // Points source/start/end at the field's content, unescaping "" if needed
+    private void select(byte[] buf, int field) {
+        int from = fieldStart[field];
+        int to = fieldEnd[field];
+        if (!fieldEscaped[field]) {
+            source = buf;
+            start = from;
+            end = to;
+            return;
+        }
+        if (scratch.length < to - from) {
+            scratch = new byte[Math.max(to - from, scratch.length * 2)];
+        }
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            scratch[length++] = buf[i];
+            if (buf[i] == '"') {
+                i++; // Skip the second quote of the pair
+            }
+        }
+        source = scratch;
+        start = 0;
+        end = length;
+    }
+
+    private int parseInt(byte[] buf, int field, String name) throws RowException {
+        select(buf, field);
+        int pos = start;
+        boolean negative = pos < end && source[pos] == '-';
+        if (negative) {
+            pos++;
+        }
+        // At most ten digits, so the long cannot overflow; the int range is checked once at the end
+        long value = 0;
+        if (pos == end || end - pos > 10) {
+            return parseIntSlow(name);
+        }
+        for (; pos < end; pos++) {
+            int digit = source[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                return parseIntSlow(name);
+            }
+            value = value * 10 + digit;
+        }
+        if (negative) {
+            value = -value;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new RowException("Invalid " + name + " '" + text() + "'");
+        }
+        return (int) value;
+    }
+
+    // Anything the digit loop does not handle ('+', non-ASCII digits, ...) gets the JDK's verdict
+    private int parseIntSlow(String name) throws RowException {
+        try {
+            return Integer.parseInt(text());
+        } catch (NumberFormatException e) {
+            throw new RowException("Invalid " + name + " '" + text() + "'");
+        }
+    }
+
+    private double parsePrice(byte[] buf, int field) throws RowException {
+        select(buf, field);
+        int pos = start;
+        boolean negative = pos < end && source[pos] == '-';
+        if (negative) {
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1; // Digits after the decimal point, once one has been seen
+        for (; pos < end; pos++) {
+            byte b = source[pos];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return parsePriceSlow();
+            }
+        }
+        if (digits == 0 || digits > MAX_FAST_DIGITS) {
+            return parsePriceSlow();
+        }
+        // Both operands are exact, so the one rounding step matches Double.parseDouble
+        double value = scale > 0 ? mantissa / POW10[scale] : mantissa;
+        return negative ? -value : value;
+    }
+
+    private double parsePriceSlow() throws RowException {
+        try {
+            return Double.parseDouble(text());
+        } catch (NumberFormatException e) {
+            throw new RowException("Invalid unit_price '" + text() + "'");
+        }
+    }
+
+    private LocalDate parseDate(byte[] buf, int field) throws RowException {
+        select(buf, field);
+        if (end - start == 10 && Arrays.equals(source, start, end, lastDateBytes, 0, 10) && lastDate != null) {
+            return lastDate;
+        }
+        if (end - start == 10 && source[start + 4] == '-' && source[start + 7] == '-') {
+            int year = digits(start, 4);
+            int month = digits(start + 5, 2);
+            int day = digits(start + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    lastDate = LocalDate.of(year, month, day);
+                } catch (DateTimeException e) {
+                    throw new RowException("Invalid date '" + text() + "'");
+                }
+                System.arraycopy(source, start, lastDateBytes, 0, 10);
+                return lastDate;
+            }
+        }
+        try {
+            return LocalDate.parse(text());
+        } catch (DateTimeException e) {
+            throw new RowException("Invalid date '" + text() + "'");
+        }
+    }
+
+    // The value of count ASCII digits at from, or -1 if any is not a digit
+    private int digits(int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = source[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private String parseName(byte[] buf, int field) {
+        select(buf, field);
+        int hash = 1;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source[i];
+        }
+        int mask = internKeys.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        for (byte[] key; (key = internKeys[slot]) != null; slot = (slot + 1) & mask) {
+            if (internHashes[slot] == hash && Arrays.equals(key, 0, key.length, source, start, end)) {
+                return internValues[slot];
+            }
+        }
+
+        String value = text();
+        if (internCount < MAX_INTERNED) {
+            internKeys[slot] = Arrays.copyOfRange(source, start, end);
+            internHashes[slot] = hash;
+            internValues[slot] = value;
+            if (++internCount * 2 > internKeys.length) {
+                growInternTable();
+            }
+        }
+        return value;
+    }
+
+    private void growInternTable() {
+        byte[][] oldKeys = internKeys;
+        int[] oldHashes = internHashes;
+        String[] oldValues = internValues;
+        internKeys = new byte[oldKeys.length * 2][];
+        internHashes = new int[oldKeys.length * 2];
+        internValues = new String[oldKeys.length * 2];
+        int mask = internKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int hash = oldHashes[i];
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (internKeys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            internKeys[slot] = oldKeys[i];
+            internHashes[slot] = hash;
+            internValues[slot] = oldValues[i];
+        }
+    }
+
+    private String text() {
+        return new String(source, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOfNewline(byte[] buf, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buf[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Pulls lines out of an input stream through one reusable buffer, skipping the header.
+     */
+    private final class RowReader {
+
+        private final InputStream in;
+        private byte[] buf = new byte[INITIAL_BUFFER];
+        private int pos;
+        private int limit;
+        private boolean eof;
+        private long lineNumber;
+
+        RowReader(InputStream in) {
+            this.in = in;
+        }
+
+        // The next sale, or null at the end of the input
+        Sale next() throws IOException {
+            while (true) {
+                int newline = indexOfNewline(buf, pos, limit);
+                if (newline < 0 && !eof) {
+                    fill();
+                    continue;
+                }
+                if (newline < 0 && pos == limit) {
+                    return null;
+                }
+                int lineStart = pos;
+                int lineEnd = newline < 0 ? limit : newline;
+                pos = newline < 0 ? limit : newline + 1;
+                if (++lineNumber == 1) {
+                    continue; // Skip CSV header
+                }
+                Sale sale = parseLine(buf, lineStart, lineEnd, lineNumber);
+                if (sale != null) {
+                    return sale;
+                }
+            }
+        }
+
+        // Keeps the partial line at the front, growing the buffer if the line fills it
+        private void fill() throws IOException {
+            int remaining = limit - pos;
+            if (pos > 0) {
+                System.arraycopy(buf, pos, buf, 0, remaining);
+                pos = 0;
+                limit = remaining;
+            }
+            if (limit == buf.length) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+            int read = in.read(buf, limit, buf.length - limit);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+    }
+
+    // Carries the reason a row is malformed; rare, so no stack trace is captured
+    private static final class RowException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        RowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.sales_analytics.service;
+
+import com.sales_analytics.model.Sale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarSalesAnalysisServiceTest {
+
+    private SalesAnalysisService service;
+    private List<Sale> mockSales;
+
+    @BeforeEach
+    void setUp() {
+        // Same data as SalesAnalysisServiceTest
+        mockSales = Arrays.asList(
+                new Sale(1, LocalDate.now(), "North", "Electronics", "Laptop", 1, 1000.00), // Total: 1000
+                new Sale(2, LocalDate.now(), "North", "Furniture", "Chair", 4, 50.00),      // Total: 200
+                new Sale(3, LocalDate.now(), "South", "Electronics", "Mouse", 2, 25.00),    // Total: 50
+                new Sale(4, LocalDate.now(), "South", "Furniture", "Table", 1, 200.00),     // Total: 200
+                new Sale(5, LocalDate.now(), "West", "Clothing", "Shirt", 10, 10.00)        // Total: 100
+        );
+        service = new ColumnarSalesAnalysisService(mockSales);
+    }
+
+    @Test
+    @DisplayName("Should compute the same totals as the stream-based service")
+    void testTotals() {
+        assertEquals(1550.00, service.calculateTotalRevenue(), 0.01);
+        assertEquals(List.of("Chair", "Laptop", "Mouse", "Shirt", "Table"), service.getUniqueProducts());
+
+        Map<String, Double> byRegion = service.getRevenueByRegion();
+        assertEquals(3, byRegion.size());
+        assertEquals(1200.00, byRegion.get("North"), 0.01);
+        assertEquals(250.00, byRegion.get("South"), 0.01);
+        assertEquals(100.00, byRegion.get("West"), 0.01);
+    }
+
+    @Test
+    @DisplayName("Should match categories case-insensitively and return 0 for unknown ones")
+    void testGetAverageQuantityByCategory() {
+        assertEquals(1.5, service.getAverageQuantityByCategory("Electronics"), 0.01);
+        assertEquals(1.5, service.getAverageQuantityByCategory("ELECTRONICS"), 0.01);
+        assertEquals(0.0, service.getAverageQuantityByCategory("Toys"), 0.01);
+    }
+
+    @Test
+    @DisplayName("Should find the highest sales, keeping the earlier one on ties")
+    void testHighestSales() {
+        Optional<Sale> highest = service.findHighestValueSale();
+        assertTrue(highest.isPresent());
+        assertEquals(1, highest.get().getId());
+
+        Map<String, Optional<Sale>> byCategory = service.getMaxSaleByCategory();
+        assertEquals(3, byCategory.size());
+        assertEquals(1, byCategory.get("Electronics").get().getId());
+        assertEquals(2, byCategory.get("Furniture").get().getId()); // Chair and Table tie at 200
+        assertEquals(5, byCategory.get("Clothing").get().getId());
+    }
+
+    @Test
+    @DisplayName("Should return empty results for an empty table")
+    void testEmpty() {
+        SalesAnalysisService empty = new ColumnarSalesAnalysisService(List.of());
+
+        assertEquals(0.0, empty.calculateTotalRevenue());
+        assertTrue(empty.getUniqueProducts().isEmpty());
+        assertTrue(empty.getRevenueByRegion().isEmpty());
+        assertTrue(empty.findHighestValueSale().isEmpty());
+        assertEquals(0.0, empty.getAverageQuantityByCategory("Electronics"));
+        assertTrue(empty.getTopSaleByCategory().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply the final correction of the compensated sum")
+    void testCompensatedSum() {
+        // Without the last correction the total comes out one ulp above DoubleStream.sum()
+        List<Sale> sales = List.of(
+                new Sale(1, LocalDate.now(), "North", "Electronics", "Server", 1, 2.5e14),
+                new Sale(2, LocalDate.now(), "North", "Clothing", "Sock", 1, 9.25),
+                new Sale(3, LocalDate.now(), "North", "Electronics", "Cluster", 1, 9e15)
+        );
+        SalesAnalysisService expected = new SalesAnalysisService(sales);
+        SalesAnalysisService columnar = new ColumnarSalesAnalysisService(sales);
+
+        assertEquals(expected.calculateTotalRevenue(), columnar.calculateTotalRevenue());
+        assertEquals(expected.getRevenueByRegion(), columnar.getRevenueByRegion());
+    }
+
+    @Test
+    @DisplayName("Should agree with the stream-based service on a large random data set")
+    void testMatchesStreamService() {
+        String[] regions = {"North", "South", "East", "West"};
+        String[] categories = {"Electronics", "Furniture", "Clothing", "electronics"};
+        Random random = new Random(3);
+        List<Sale> sales = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            sales.add(new Sale(i, LocalDate.of(2023, 1, 1).plusDays(random.nextInt(365)),
+                    regions[random.nextInt(regions.length)], categories[random.nextInt(categories.length)],
+                    "P" + random.nextInt(200), 1 + random.nextInt(20), random.nextInt(100_000) / 100.0));
+        }
+        SalesAnalysisService expected = new SalesAnalysisService(sales);
+        SalesAnalysisService columnar = new ColumnarSalesAnalysisService(sales);
+
+        // Same summation steps, so the very same doubles come back
+        assertEquals(expected.calculateTotalRevenue(), columnar.calculateTotalRevenue());
+        assertEquals(expected.getUniqueProducts(), columnar.getUniqueProducts());
+        assertEquals(expected.getRevenueByRegion(), columnar.getRevenueByRegion());
+        assertEquals(expected.findHighestValueSale().get().getId(), columnar.findHighestValueSale().get().getId());
+        assertEquals(expected.getAverageQuantityByCategory("electronics"),
+                columnar.getAverageQuantityByCategory("electronics"));
+
+        Map<String, Optional<Sale>> expectedTop = expected.getTopSaleByCategory();
+        Map<String, Optional<Sale>> columnarTop = columnar.getTopSaleByCategory();
+        assertEquals(expectedTop.keySet(), columnarTop.keySet());
+        expectedTop.forEach((category, sale) ->
+                assertEquals(sale.get().getId(), columnarTop.get(category).get().getId()));
+    }
+}
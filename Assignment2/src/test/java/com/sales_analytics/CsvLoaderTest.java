@@ -0,0 +1,74 @@
+package com.sales_analytics.util;
+
+import com.sales_analytics.model.Sale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvLoaderTest {
+
+    private static final String CSV = "id,date,region,category,product,quantity,unit_price\n"
+            + "1,2023-01-05,North,Electronics,Laptop,2,1200.00\n"
+            + "2,2023-01-07,South,Furniture,Chair,5,150.00\n"
+            + "3,2023-01-10,North,Electronics,Mouse,10,25.00\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should load the bundled resource file")
+    void testLoadSalesFromResource() throws IOException {
+        List<Sale> sales = CsvLoader.loadSalesFromResource("sales_data.csv");
+
+        assertEquals(10, sales.size());
+        assertEquals("Laptop", sales.get(0).getProduct());
+        assertEquals(LocalDate.of(2023, 1, 5), sales.get(0).getDate());
+    }
+
+    @Test
+    @DisplayName("Should stream sales lazily from a file path")
+    void testStreamSales() throws IOException {
+        Path file = write(CSV);
+
+        try (Stream<Sale> sales = CsvLoader.streamSales(file)) {
+            List<Integer> ids = sales.map(Sale::getId).collect(Collectors.toList());
+            assertEquals(List.of(1, 2, 3), ids);
+        }
+    }
+
+    @Test
+    @DisplayName("Should push every sale to the callback in file order")
+    void testForEachSale() throws IOException {
+        Path file = write(CSV);
+        List<String> products = new ArrayList<>();
+
+        CsvLoader.forEachSale(file, sale -> products.add(sale.getProduct()));
+
+        assertEquals(List.of("Laptop", "Chair", "Mouse"), products);
+    }
+
+    @Test
+    @DisplayName("Should report a missing file as an IOException")
+    void testMissingFile() {
+        assertThrows(IOException.class, () -> CsvLoader.streamSales(dir.resolve("missing.csv")));
+        assertThrows(IOException.class, () -> CsvLoader.loadSalesFromResource("missing.csv"));
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("sales.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
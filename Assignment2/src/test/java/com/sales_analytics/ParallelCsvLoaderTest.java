@@ -0,0 +1,166 @@
+package com.sales_analytics.util;
+
+import com.sales_analytics.model.Sale;
+import com.sales_analytics.service.SalesAnalysisService;
+import com.sales_analytics.service.SalesSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCsvLoaderTest {
+
+    private static final String HEADER = "id,date,region,category,product,quantity,unit_price\n";
+    private static final String[] REGIONS = {"North", "South", "East", "West"};
+    private static final String[] CATEGORIES = {"Electronics", "Furniture", "Clothing"};
+    private static final String[] PRODUCTS = {"Laptop", "Chair", "Mouse", "T-Shirt", "\"Desk, Oak\""};
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should load exactly the same sales, in order, as the sequential loader")
+    void testMatchesSequentialLoader() throws IOException {
+        Path file = write(generate(20_000, false));
+
+        // Small chunks force many splits, including lines cut by the nominal boundaries
+        List<Sale> parallel = new ParallelCsvLoader(pool, 4096).loadSales(file);
+        List<Sale> sequential;
+        try (Stream<Sale> sales = CsvLoader.streamSales(file)) {
+            sequential = sales.collect(Collectors.toList());
+        }
+
+        assertEquals(20_000, sequential.size());
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertSameSale(sequential.get(i), parallel.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should merge per-chunk summaries into the sequential result")
+    void testCollectSummary() throws IOException {
+        Path file = write(generate(5_000, true));
+
+        SalesSummary parallel = new ParallelCsvLoader(pool, 1024).collect(file, SalesSummary.collector());
+        SalesSummary sequential;
+        try (Stream<Sale> sales = CsvLoader.streamSales(file)) {
+            sequential = SalesAnalysisService.summarize(sales);
+        }
+
+        assertEquals(sequential.getSaleCount(), parallel.getSaleCount());
+        assertEquals(sequential.calculateTotalRevenue(), parallel.calculateTotalRevenue(), 1e-6);
+        assertEquals(sequential.getUniqueProducts(), parallel.getUniqueProducts());
+        assertEquals(sequential.findHighestValueSale().get().getId(), parallel.findHighestValueSale().get().getId());
+        for (String category : CATEGORIES) {
+            assertEquals(sequential.getAverageQuantityByCategory(category),
+                    parallel.getAverageQuantityByCategory(category));
+            assertEquals(sequential.getMaxSaleByCategory().get(category).get().getId(),
+                    parallel.getMaxSaleByCategory().get(category).get().getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report malformed rows with whole-file line numbers, in order")
+    void testMalformedRowLineNumbers() throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 1; i <= 300; i++) {
+            String quantity = i % 100 == 0 ? "bad" : "3";
+            csv.append(i).append(",2023-01-05,North,Electronics,Laptop,").append(quantity).append(",10.00\n");
+        }
+        Path file = write(csv.toString());
+
+        List<MalformedRow> errors = new ArrayList<>();
+        List<Sale> sales = new ParallelCsvLoader(pool, 512).collect(file, Collectors.toList(), errors::add);
+
+        assertEquals(297, sales.size());
+        // Row i sits on line i + 1
+        assertEquals(List.of(101L, 201L, 301L),
+                errors.stream().map(MalformedRow::getLineNumber).collect(Collectors.toList()));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new ParallelCsvLoader(pool, 512).loadSales(file));
+        assertTrue(e.getMessage().contains("Line 101"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should handle empty, header-only and unterminated files")
+    void testEdgeFiles() throws IOException {
+        ParallelCsvLoader loader = new ParallelCsvLoader(pool, 0);
+
+        assertTrue(loader.loadSales(write("")).isEmpty());
+        assertTrue(loader.loadSales(write(HEADER)).isEmpty());
+
+        List<Sale> sales = loader.loadSales(write(HEADER + "1,2023-01-05,North,Electronics,Laptop,2,1200.00"));
+        assertEquals(1, sales.size());
+        assertEquals(2400.0, sales.get(0).getTotalRevenue(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should reject chunk sizes outside 0 to MAX_CHUNK_SIZE")
+    void testRejectsInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCsvLoader(pool, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelCsvLoader(pool, ParallelCsvLoader.MAX_CHUNK_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCsvLoader(pool, Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCsvLoader(null, 0));
+        assertDoesNotThrow(() -> new ParallelCsvLoader(pool, ParallelCsvLoader.MAX_CHUNK_SIZE));
+    }
+
+    private static String generate(int rows, boolean crlf) {
+        Random random = new Random(7);
+        StringBuilder csv = new StringBuilder(HEADER);
+        LocalDate date = LocalDate.of(2023, 1, 1);
+        for (int i = 1; i <= rows; i++) {
+            if (random.nextInt(50) == 0) {
+                date = date.plusDays(1);
+            }
+            csv.append(i).append(',')
+                    .append(date).append(',')
+                    .append(REGIONS[random.nextInt(REGIONS.length)]).append(',')
+                    .append(CATEGORIES[random.nextInt(CATEGORIES.length)]).append(',')
+                    .append(PRODUCTS[random.nextInt(PRODUCTS.length)]).append(',')
+                    .append(1 + random.nextInt(20)).append(',')
+                    .append(random.nextInt(2000)).append('.').append(String.format("%02d", random.nextInt(100)))
+                    .append(crlf ? "\r\n" : "\n");
+        }
+        return csv.toString();
+    }
+
+    private static void assertSameSale(Sale expected, Sale actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getDate(), actual.getDate());
+        assertEquals(expected.getRegion(), actual.getRegion());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        assertEquals(expected.getProduct(), actual.getProduct());
+        assertEquals(expected.getQuantity(), actual.getQuantity());
+        assertEquals(expected.getUnitPrice(), actual.getUnitPrice());
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(dir, "sales", ".csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,172 @@
+package com.sales_analytics.util;
+
+import com.sales_analytics.model.Sale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaleParserTest {
+
+    private static final String HEADER = "id,date,region,category,product,quantity,unit_price\n";
+
+    @Test
+    @DisplayName("Should parse the bundled file exactly like String.split")
+    void testMatchesSplitParsing() throws IOException {
+        List<String> lines;
+        try (InputStream in = resource()) {
+            lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().skip(1)
+                    .collect(Collectors.toList());
+        }
+        List<Sale> parsed;
+        try (InputStream in = resource()) {
+            parsed = parseAll(in);
+        }
+
+        assertEquals(lines.size(), parsed.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String[] p = lines.get(i).split(",");
+            Sale sale = parsed.get(i);
+            assertEquals(Integer.parseInt(p[0]), sale.getId());
+            assertEquals(LocalDate.parse(p[1]), sale.getDate());
+            assertEquals(p[2], sale.getRegion());
+            assertEquals(p[3], sale.getCategory());
+            assertEquals(p[4], sale.getProduct());
+            assertEquals(Integer.parseInt(p[5]), sale.getQuantity());
+            assertEquals(Double.parseDouble(p[6]), sale.getUnitPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse prices to the same double as Double.parseDouble")
+    void testPriceParsing() {
+        SaleParser parser = new SaleParser();
+        Random random = new Random(42);
+        List<String> prices = new ArrayList<>(List.of("0", "-0", "0.1", "5.", ".5", "1200.00", "19.99",
+                "123456789012.345", "1e3", "+7.25", "1234567890123456789.5"));
+        for (int i = 0; i < 2_000; i++) {
+            prices.add(random.nextInt(1_000_000) + "." + String.format("%02d", random.nextInt(100)));
+        }
+
+        for (String price : prices) {
+            Sale sale = parseLine(parser, "1,2023-01-05,North,Electronics,Laptop,2," + price);
+            assertEquals(Double.parseDouble(price), sale.getUnitPrice(), "Price " + price);
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse integers to the int range and reject anything outside it")
+    void testIntegerBounds() {
+        SaleParser parser = new SaleParser();
+        for (String id : List.of("0", "-0", "+42", "2147483647", "-2147483648", "0000000007")) {
+            Sale sale = parseLine(parser, id + ",2023-01-05,North,Electronics,Laptop,2,1.00");
+            assertEquals(Integer.parseInt(id), sale.getId(), "Id " + id);
+        }
+
+        for (String id : List.of("2147483648", "-2147483649", "9999999999", "-", "")) {
+            byte[] line = (id + ",2023-01-05,North,Electronics,Laptop,2,1.00").getBytes(StandardCharsets.UTF_8);
+            assertThrows(IllegalArgumentException.class, () -> parser.parseLine(line, 0, line.length, 2), "Id " + id);
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle quoted fields with commas and escaped quotes")
+    void testQuotedFields() {
+        SaleParser parser = new SaleParser();
+        Sale sale = parseLine(parser, "7,\"2023-03-01\",\"North, East\",Furniture,\"27\"\" Monitor\",\"3\",\"99.50\"");
+
+        assertEquals(7, sale.getId());
+        assertEquals(LocalDate.of(2023, 3, 1), sale.getDate());
+        assertEquals("North, East", sale.getRegion());
+        assertEquals("27\" Monitor", sale.getProduct());
+        assertEquals(3, sale.getQuantity());
+        assertEquals(99.5, sale.getUnitPrice());
+    }
+
+    @Test
+    @DisplayName("Should report malformed rows with line numbers and keep going")
+    void testMalformedRows() throws IOException {
+        String csv = HEADER
+                + "1,2023-01-05,North,Electronics,Laptop,2,1200.00\n"
+                + "2,2023-01-07,South,Furniture,Chair,five,150.00\n"  // line 3
+                + "\n"                                                 // blank, skipped
+                + "3,2023-02-30,North,Electronics,Mouse,10,25.00\n"   // line 5
+                + "4,2023-02-01,East,Clothing\n"                      // line 6
+                + "5,2023-02-01,East,Clothing,\"Jeans,4,40.00\n"      // line 7
+                + "6,2023-02-01,East,Clothing,Jeans,4,40.00\r\n";
+        List<MalformedRow> errors = new ArrayList<>();
+
+        List<Sale> sales;
+        try (InputStream in = bytes(csv)) {
+            sales = new ArrayList<>();
+            new SaleParser(errors::add).parse(in, sales::add);
+        }
+
+        assertEquals(List.of(1, 6), sales.stream().map(Sale::getId).collect(Collectors.toList()));
+        assertEquals(40.0, sales.get(1).getUnitPrice());
+        assertEquals(List.of(3L, 5L, 6L, 7L),
+                errors.stream().map(MalformedRow::getLineNumber).collect(Collectors.toList()));
+        assertTrue(errors.get(0).getReason().contains("quantity"));
+        assertTrue(errors.get(1).getReason().contains("date"));
+        assertTrue(errors.get(2).getReason().contains("fields"));
+        assertEquals("4,2023-02-01,East,Clothing", errors.get(2).getLine());
+    }
+
+    @Test
+    @DisplayName("Should fail fast with the line number by default")
+    void testFailFastByDefault() {
+        String csv = HEADER + "1,2023-01-05,North,Electronics,Laptop,2,1200.00\n" + "x,2023-01-05,North,a,b,1,1\n";
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> parseAll(bytes(csv)));
+        assertTrue(e.getMessage().contains("Line 3"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should intern repeated names and handle rows longer than the read buffer")
+    void testInterningAndLongRows() throws IOException {
+        String longProduct = "P".repeat(200_000);
+        String csv = HEADER
+                + "1,2023-01-05,North,Electronics," + longProduct + ",2,1200.00\n"
+                + "2,2023-01-05,North,Electronics,Mouse,1,25.00";  // No trailing newline
+
+        List<Sale> sales = parseAll(bytes(csv));
+
+        assertEquals(2, sales.size());
+        assertEquals(longProduct, sales.get(0).getProduct());
+        assertSame(sales.get(0).getRegion(), sales.get(1).getRegion());
+        assertSame(sales.get(0).getCategory(), sales.get(1).getCategory());
+        assertSame(sales.get(0).getDate(), sales.get(1).getDate());
+    }
+
+    private static Sale parseLine(SaleParser parser, String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        Sale sale = parser.parseLine(bytes, 0, bytes.length, 2);
+        assertNotNull(sale, line);
+        return sale;
+    }
+
+    private static List<Sale> parseAll(InputStream in) throws IOException {
+        List<Sale> sales = new ArrayList<>();
+        new SaleParser().parse(in, sales::add);
+        return sales;
+    }
+
+    private static InputStream bytes(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream resource() {
+        return SaleParserTest.class.getClassLoader().getResourceAsStream("sales_data.csv");
+    }
+}
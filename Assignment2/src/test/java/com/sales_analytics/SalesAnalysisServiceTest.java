@@ -16,11 +16,12 @@ import static org.junit.jupiter.api.Assertions.*;
 class SalesAnalysisServiceTest {
 
     private SalesAnalysisService service;
+    private List<Sale> mockSales;
 
     @BeforeEach
     void setUp() {
         // Create mock data for testing to avoid file I/O dependency
-        List<Sale> mockSales = Arrays.asList(
+        mockSales = Arrays.asList(
                 new Sale(1, LocalDate.now(), "North", "Electronics", "Laptop", 1, 1000.00), // Total: 1000
                 new Sale(2, LocalDate.now(), "North", "Furniture", "Chair", 4, 50.00),      // Total: 200
                 new Sale(3, LocalDate.now(), "South", "Electronics", "Mouse", 2, 25.00),    // Total: 50
@@ -105,4 +106,34 @@ class SalesAnalysisServiceTest {
         Sale maxClothing = result.get("Clothing").orElse(null);
         assertEquals("Shirt", maxClothing.getProduct());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should compute the same aggregates in one streaming pass")
+    void testSummarizeMatchesService() {
+        SalesSummary summary = SalesAnalysisService.summarize(mockSales.stream());
+
+        assertEquals(5, summary.getSaleCount());
+        assertEquals(service.calculateTotalRevenue(), summary.calculateTotalRevenue(), 0.0);
+        assertEquals(service.getUniqueProducts(), summary.getUniqueProducts());
+        assertEquals(service.getRevenueByRegion(), summary.getRevenueByRegion());
+        assertEquals(service.findHighestValueSale(), summary.findHighestValueSale());
+        assertEquals(1.5, summary.getAverageQuantityByCategory("electronics"), 0.01);
+        assertEquals(0.0, summary.getAverageQuantityByCategory("Toys"), 0.01);
+        // Ties (Chair vs Table, both 200) resolve to the earlier sale, exactly like the stream version
+        assertEquals(service.getMaxSaleByCategory(), summary.getMaxSaleByCategory());
+        assertEquals(service.getTopSaleByCategory(), summary.getTopSaleByCategory());
+    }
+
+    @Test
+    @DisplayName("Should merge partial summaries into the same result")
+    void testSummarizeParallel() {
+        SalesSummary sequential = SalesAnalysisService.summarize(mockSales.stream());
+        SalesSummary parallel = SalesAnalysisService.summarize(mockSales.parallelStream());
+
+        assertEquals(sequential.getSaleCount(), parallel.getSaleCount());
+        assertEquals(sequential.calculateTotalRevenue(), parallel.calculateTotalRevenue(), 0.01);
+        assertEquals(sequential.getUniqueProducts(), parallel.getUniqueProducts());
+        assertEquals(sequential.getMaxSaleByCategory(), parallel.getMaxSaleByCategory());
+        assertEquals(sequential.findHighestValueSale(), parallel.findHighestValueSale());
+    }
+}
@@ -0,0 +1,102 @@
+package com.sales_analytics.service;
+
+import com.sales_analytics.model.Sale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalesReportEngineTest {
+
+    private SalesAnalysisService service;
+    private List<Sale> mockSales;
+
+    @BeforeEach
+    void setUp() {
+        // Same data as SalesAnalysisServiceTest
+        mockSales = Arrays.asList(
+                new Sale(1, LocalDate.now(), "North", "Electronics", "Laptop", 1, 1000.00), // Total: 1000
+                new Sale(2, LocalDate.now(), "North", "Furniture", "Chair", 4, 50.00),      // Total: 200
+                new Sale(3, LocalDate.now(), "South", "Electronics", "Mouse", 2, 25.00),    // Total: 50
+                new Sale(4, LocalDate.now(), "South", "Furniture", "Table", 1, 200.00),     // Total: 200
+                new Sale(5, LocalDate.now(), "West", "Clothing", "Shirt", 10, 10.00)        // Total: 100
+        );
+        service = new SalesAnalysisService(mockSales);
+    }
+
+    @Test
+    @DisplayName("Should compute every aggregate in one pass, matching the service")
+    void testAllAggregatesInOnePass() {
+        AtomicInteger reads = new AtomicInteger();
+        Iterable<Sale> counted = () -> mockSales.stream().peek(s -> reads.incrementAndGet()).iterator();
+
+        SalesReport report = SalesReportEngine.all().run(counted);
+
+        assertEquals(mockSales.size(), reads.get());
+        assertEquals(5, report.getSaleCount());
+        assertEquals(service.calculateTotalRevenue(), report.getTotalRevenue(), 0.0);
+        assertEquals(service.getRevenueByRegion(), report.getRevenueByRegion());
+        assertEquals(service.getUniqueProducts(), report.getUniqueProducts());
+        assertEquals(1.5, report.getAverageQuantityByCategory("electronics"), 0.01);
+        assertEquals(0.0, report.getAverageQuantityByCategory("Toys"), 0.01);
+        assertEquals(10.0, report.getAverageQuantityByCategory().get("Clothing"), 0.01);
+        assertEquals(service.findHighestValueSale(), report.getHighestValueSale());
+        assertEquals(service.getMaxSaleByCategory(), report.getMaxSaleByCategory());
+    }
+
+    @Test
+    @DisplayName("Should only compute the requested aggregates")
+    void testRequestedAggregatesOnly() {
+        SalesReport report = new SalesReportEngine(Aggregate.TOTAL_REVENUE, Aggregate.UNIQUE_PRODUCTS)
+                .run(mockSales);
+
+        assertEquals(EnumSet.of(Aggregate.TOTAL_REVENUE, Aggregate.UNIQUE_PRODUCTS), report.getAggregates());
+        assertTrue(report.contains(Aggregate.UNIQUE_PRODUCTS));
+        assertFalse(report.contains(Aggregate.REVENUE_BY_REGION));
+        assertEquals(1550.00, report.getTotalRevenue(), 0.01);
+        assertEquals(5, report.getUniqueProducts().size());
+        assertThrows(IllegalStateException.class, report::getRevenueByRegion);
+        assertThrows(IllegalStateException.class, report::getHighestValueSale);
+        assertThrows(IllegalStateException.class, () -> report.getAverageQuantityByCategory("Electronics"));
+        assertThrows(IllegalStateException.class, report::getTopSaleByCategory);
+
+        assertThrows(IllegalArgumentException.class, () -> new SalesReportEngine(EnumSet.noneOf(Aggregate.class)));
+    }
+
+    @Test
+    @DisplayName("Should merge parallel partial reports into the sequential result")
+    void testParallelMerge() {
+        String[] regions = {"North", "South", "East", "West"};
+        String[] categories = {"Electronics", "Furniture", "Clothing"};
+        Random random = new Random(11);
+        List<Sale> sales = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            sales.add(new Sale(i, LocalDate.of(2023, 1, 1), regions[random.nextInt(regions.length)],
+                    categories[random.nextInt(categories.length)], "P" + random.nextInt(100),
+                    1 + random.nextInt(20), random.nextInt(10_000) / 100.0));
+        }
+        SalesReportEngine engine = SalesReportEngine.all();
+
+        SalesReport sequential = engine.run(sales);
+        SalesReport parallel = engine.runParallel(sales);
+
+        assertEquals(sequential.getSaleCount(), parallel.getSaleCount());
+        assertEquals(sequential.getTotalRevenue(), parallel.getTotalRevenue(), 1e-6);
+        sequential.getRevenueByRegion().forEach((region, revenue) ->
+                assertEquals(revenue, parallel.getRevenueByRegion().get(region), 1e-6));
+        assertEquals(sequential.getUniqueProducts(), parallel.getUniqueProducts());
+        assertEquals(sequential.getAverageQuantityByCategory(), parallel.getAverageQuantityByCategory());
+        // Ties keep the earliest sale in both modes, so the very same objects come back
+        assertEquals(sequential.getHighestValueSale(), parallel.getHighestValueSale());
+        assertEquals(sequential.getTopSaleByCategory(), parallel.getTopSaleByCategory());
+    }
+}
@@ -0,0 +1,95 @@
+package com.sales_analytics.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalesTableTest {
+
+    private static final List<Sale> SALES = List.of(
+            new Sale(1, LocalDate.of(2023, 1, 5), "North", "Electronics", "Laptop", 2, 1200.00),
+            new Sale(2, LocalDate.of(2023, 1, 7), "South", "Furniture", "Chair", 5, 150.00),
+            new Sale(3, LocalDate.of(2023, 2, 1), "North", "Electronics", "Mouse", 10, 25.00),
+            new Sale(4, LocalDate.of(1969, 12, 31), "East", "Furniture", "Chair", 1, 0.10)
+    );
+
+    @Test
+    @DisplayName("Should store every field and rebuild the same sales")
+    void testRoundTrip() {
+        SalesTable table = SalesTable.of(SALES);
+
+        assertEquals(SALES.size(), table.size());
+        for (int i = 0; i < SALES.size(); i++) {
+            assertSameSale(SALES.get(i), table.getSale(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getSale(SALES.size()));
+    }
+
+    @Test
+    @DisplayName("Should store each distinct name once, in order of first appearance")
+    void testDictionaryEncoding() {
+        SalesTable table = SalesTable.of(SALES);
+
+        assertEquals(List.of("North", "South", "East"), table.regions());
+        assertEquals(List.of("Electronics", "Furniture"), table.categories());
+        assertEquals(List.of("Laptop", "Chair", "Mouse"), table.products());
+        assertArrayEquals(new int[]{0, 1, 0, 2}, Arrays.copyOf(table.regionCodes(), 4));
+        assertArrayEquals(new int[]{0, 1, 2, 1}, Arrays.copyOf(table.productCodes(), 4));
+    }
+
+    @Test
+    @DisplayName("Should grow past its initial capacity and append other tables in order")
+    void testGrowAndAppend() {
+        SalesTable first = new SalesTable(0);
+        SalesTable second = new SalesTable(1);
+        List<Sale> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Sale sale = SALES.get(i % SALES.size());
+            (i < 30 ? first : second).accept(sale);
+            expected.add(sale);
+        }
+
+        first.append(second);
+
+        assertEquals(100, first.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameSale(expected.get(i), first.getSale(i));
+        }
+        assertEquals(List.of("North", "South", "East"), first.regions());
+
+        // Merged chunks of a parallel stream come back in encounter order
+        SalesTable collected = expected.parallelStream().collect(SalesTable.collector());
+        assertEquals(100, collected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameSale(expected.get(i), collected.getSale(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject null sales")
+    void testRejectsNull() {
+        SalesTable table = new SalesTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.accept(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.accept(new Sale(1, null, "North", "Electronics", "Laptop", 1, 1.0)));
+        assertThrows(IllegalArgumentException.class, () -> new SalesTable(-1));
+        assertEquals(0, table.size());
+    }
+
+    private static void assertSameSale(Sale expected, Sale actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getDate(), actual.getDate());
+        assertEquals(expected.getRegion(), actual.getRegion());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        assertEquals(expected.getProduct(), actual.getProduct());
+        assertEquals(expected.getQuantity(), actual.getQuantity());
+        assertEquals(expected.getUnitPrice(), actual.getUnitPrice());
+    }
+}